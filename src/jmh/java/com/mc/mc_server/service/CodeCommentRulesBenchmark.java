@@ -0,0 +1,111 @@
+package com.mc.mc_server.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100,000줄 Java 파일의 모든 줄에 대해 주석 대상 판단 + 주석 선택에 걸리는 시간을 비교합니다.
+ * legacy: shouldAddComment와 generateJavaComment가 contains/startsWith를 각각 연쇄 호출하던 기존 방식
+ * compiled: 규칙 표를 하나의 Aho-Corasick 오토마톤으로 컴파일해 줄마다 한 번만 순회하는 방식
+ * 실행: ./gradlew jmh -Pjmh.includes=CodeCommentRulesBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CodeCommentRulesBenchmark {
+
+    private static final int LINE_COUNT = 100_000;
+
+    private static final String[] SAMPLE_LINES = {
+        "package com.example.demo;",
+        "import java.util.List;",
+        "",
+        "public class OrderService {",
+        "    private final OrderRepository orderRepository;",
+        "    private int retryCount;",
+        "    // 주문 조회",
+        "    @Override",
+        "    public List<Order> findByCustomer(Long customerId) {",
+        "        List<Order> orders = orderRepository.findAll();",
+        "        return orders.stream().filter(o -> o.getCustomerId().equals(customerId)).toList();",
+        "    }",
+        "public interface OrderRepository extends JpaRepository<Order, Long> {",
+        "        if (orders.isEmpty()) {",
+        "            throw new IllegalStateException(\"no orders\");",
+        "        }",
+    };
+
+    private CodeCommentService codeCommentService;
+    private String[] lines;
+
+    @Setup
+    public void setUp() {
+        codeCommentService = new CodeCommentService();
+        lines = new String[LINE_COUNT];
+        for (int i = 0; i < LINE_COUNT; i++) {
+            lines[i] = SAMPLE_LINES[i % SAMPLE_LINES.length];
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (String line : lines) {
+            if (legacyShouldAddComment(line)) {
+                blackhole.consume(legacyJavaComment(line.trim()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(codeCommentService.generateCommentIfTarget(line, "OrderService.java"));
+        }
+    }
+
+    private static boolean legacyShouldAddComment(String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("//") || trimmed.startsWith("/*") || trimmed.startsWith("#")) {
+            return false;
+        }
+        return trimmed.contains("public ") ||
+               trimmed.contains("private ") ||
+               trimmed.contains("protected ") ||
+               trimmed.contains("class ") ||
+               trimmed.contains("interface ") ||
+               trimmed.contains("@Override") ||
+               (trimmed.contains("extends") && trimmed.contains("Repository"));
+    }
+
+    private static String legacyJavaComment(String codeLine) {
+        if (codeLine.contains("class ") && codeLine.contains("{")) {
+            return "// 새로운 클래스 정의";
+        }
+        if (codeLine.contains("public ") || codeLine.contains("private ") || codeLine.contains("protected ")) {
+            if (codeLine.contains("(") && codeLine.contains(")")) {
+                return "// 메서드 정의";
+            }
+        }
+        if (codeLine.contains("extends") && codeLine.contains("Repository")) {
+            return "// 레포지토리 인터페이스 확장으로 데이터 액세스 기능 추가";
+        }
+        if (codeLine.contains("private final") || codeLine.contains("private ")) {
+            return "// 클래스 멤버 변수 선언";
+        }
+        if (codeLine.startsWith("import ")) {
+            return "// 필요한 라이브러리 import";
+        }
+        if (codeLine.contains("List<") && codeLine.contains("find")) {
+            return "// 특정 조건으로 리스트 조회 메서드 추가";
+        }
+        return "// 코드 로직 추가";
+    }
+}
@@ -0,0 +1,99 @@
+package com.mc.mc_server.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10,000줄 patch에 대해 주석 생성(generateCommentsForCode)과 중복 주석 정리(formatCommentedCode)를 비교합니다.
+ * legacy: split("\n")으로 줄마다 String을 만들고 크기 지정 없는 StringBuilder에 이어 붙이던 기존 방식
+ * scanner: LineScanner로 원본 위치만 순회하고 미리 크기를 잡은 StringBuilder 하나에 쓰는 방식
+ * 할당량은 build.gradle의 gc 프로파일러 결과(gc.alloc.rate.norm, 호출당 바이트)로 확인합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=CommentFormattingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentFormattingBenchmark {
+
+    private static final int LINE_COUNT = 10_000;
+    private static final String FILENAME = "OrderService.java";
+
+    private static final String[] SAMPLE_LINES = {
+        "@@ -10,6 +10,12 @@ public class OrderService {",
+        "     private final OrderRepository orderRepository;",
+        "+    private int retryCount;",
+        "+",
+        "+    public List<Order> findByCustomer(Long customerId) {",
+        "+        return orderRepository.findAll();",
+        "+    }",
+        "-    // 사용하지 않는 메서드",
+        "     }",
+    };
+
+    private CodeCommentService codeCommentService;
+    private String patch;
+    private String commentedCode;
+
+    @Setup
+    public void setUp() {
+        codeCommentService = new CodeCommentService();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            builder.append(SAMPLE_LINES[i % SAMPLE_LINES.length]).append('\n');
+        }
+        patch = builder.toString();
+        commentedCode = codeCommentService.generateCommentsForCode(FILENAME, patch);
+    }
+
+    @Benchmark
+    public String legacyGenerate() {
+        StringBuilder result = new StringBuilder();
+        for (String line : patch.split("\n")) {
+            if (line.startsWith("+") && !line.equals("+")) {
+                String comment = codeCommentService.generateCommentForLine(line.substring(1), FILENAME);
+                result.append(line).append("\n");
+                if (comment != null && !comment.isEmpty()) {
+                    result.append("+ ").append(comment).append("\n");
+                }
+            } else {
+                result.append(line).append("\n");
+            }
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    public String scannerGenerate() {
+        return codeCommentService.generateCommentsForCode(FILENAME, patch);
+    }
+
+    @Benchmark
+    public String legacyFormat() {
+        StringBuilder formatted = new StringBuilder();
+        String lastComment = "";
+        for (String line : commentedCode.split("\n")) {
+            if (line.trim().startsWith("//") || line.trim().startsWith("/*") || line.trim().startsWith("#")) {
+                if (!line.equals(lastComment)) {
+                    formatted.append(line).append("\n");
+                    lastComment = line;
+                }
+            } else {
+                formatted.append(line).append("\n");
+                lastComment = "";
+            }
+        }
+        return formatted.toString();
+    }
+
+    @Benchmark
+    public String scannerFormat() {
+        return codeCommentService.formatCommentedCode(commentedCode);
+    }
+}
@@ -0,0 +1,158 @@
+package com.mc.mc_server.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mc.mc_server.dto.GitHubCommitDetail;
+import com.mc.mc_server.dto.GitHubFile;
+import com.mc.mc_server.dto.GitHubRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 방식(문자열 → JsonNode 트리 → DTO 복사)과 스트리밍 파싱(GitHubJsonReader)을 비교합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=GitHubJsonParsingBenchmark
+ * (-prof gc 로 할당량도 함께 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GitHubJsonParsingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private GitHubJsonReader jsonReader;
+
+    private byte[] repositoriesJson;
+    private byte[] commitDetailJson;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        jsonReader = new GitHubJsonReader(objectMapper);
+        repositoriesJson = buildRepositories(100).getBytes(StandardCharsets.UTF_8);
+        commitDetailJson = buildCommitDetail(50, 400).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<GitHubRepository> repositoriesTree() throws Exception {
+        JsonNode jsonNode = objectMapper.readTree(new String(repositoriesJson, StandardCharsets.UTF_8));
+        List<GitHubRepository> repositories = new ArrayList<>();
+        for (JsonNode repoNode : jsonNode) {
+            GitHubRepository repo = new GitHubRepository();
+            repo.setId(repoNode.get("id").asLong());
+            repo.setName(repoNode.get("name").asText());
+            repo.setFullName(repoNode.get("full_name").asText());
+            repo.setDescription(repoNode.has("description") && !repoNode.get("description").isNull() ?
+                repoNode.get("description").asText() : null);
+            repo.setHtmlUrl(repoNode.get("html_url").asText());
+            repo.setDefaultBranch(repoNode.get("default_branch").asText());
+            repo.setPrivateRepo(repoNode.get("private").asBoolean());
+            repo.setCreatedAt(repoNode.get("created_at").asText());
+            repo.setUpdatedAt(repoNode.get("updated_at").asText());
+            repositories.add(repo);
+        }
+        return repositories;
+    }
+
+    @Benchmark
+    public List<GitHubRepository> repositoriesStreaming() throws Exception {
+        return jsonReader.readRepositories(new ByteArrayInputStream(repositoriesJson));
+    }
+
+    @Benchmark
+    public GitHubCommitDetail commitDetailTree() throws Exception {
+        JsonNode jsonNode = objectMapper.readTree(new String(commitDetailJson, StandardCharsets.UTF_8));
+        GitHubCommitDetail commitDetail = new GitHubCommitDetail();
+        commitDetail.setSha(jsonNode.get("sha").asText());
+        JsonNode commitNode = jsonNode.get("commit");
+        commitDetail.setMessage(commitNode.get("message").asText());
+        commitDetail.setAuthorName(commitNode.get("author").get("name").asText());
+        commitDetail.setAuthorEmail(commitNode.get("author").get("email").asText());
+        commitDetail.setDate(commitNode.get("author").get("date").asText());
+        JsonNode statsNode = jsonNode.get("stats");
+        commitDetail.setAdditions(statsNode.get("additions").asInt());
+        commitDetail.setDeletions(statsNode.get("deletions").asInt());
+        commitDetail.setTotal(statsNode.get("total").asInt());
+        List<GitHubFile> files = new ArrayList<>();
+        for (JsonNode fileNode : jsonNode.get("files")) {
+            GitHubFile file = new GitHubFile();
+            file.setFilename(fileNode.get("filename").asText());
+            file.setStatus(fileNode.get("status").asText());
+            file.setAdditions(fileNode.get("additions").asInt());
+            file.setDeletions(fileNode.get("deletions").asInt());
+            file.setChanges(fileNode.get("changes").asInt());
+            file.setPatch(fileNode.has("patch") ? fileNode.get("patch").asText() : null);
+            files.add(file);
+        }
+        commitDetail.setFiles(files);
+        return commitDetail;
+    }
+
+    @Benchmark
+    public GitHubCommitDetail commitDetailStreaming() throws Exception {
+        return jsonReader.readCommitDetail(new ByteArrayInputStream(commitDetailJson));
+    }
+
+    // ========== Fixtures ==========
+
+    private static String buildRepositories(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(1000 + i)
+                .append(",\"node_id\":\"R_kgDO").append(i).append("\"")
+                .append(",\"name\":\"repo-").append(i).append("\"")
+                .append(",\"full_name\":\"octocat/repo-").append(i).append("\"")
+                .append(",\"private\":").append(i % 3 == 0)
+                .append(",\"owner\":{\"login\":\"octocat\",\"id\":1,\"type\":\"User\",\"site_admin\":false}")
+                .append(",\"html_url\":\"https://github.com/octocat/repo-").append(i).append("\"")
+                .append(",\"description\":").append(i % 4 == 0 ? "null" : "\"Sample repository " + i + "\"")
+                .append(",\"fork\":false")
+                .append(",\"created_at\":\"2024-01-01T00:00:00Z\"")
+                .append(",\"updated_at\":\"2024-06-01T00:00:00Z\"")
+                .append(",\"topics\":[\"java\",\"spring\",\"github\"]")
+                .append(",\"permissions\":{\"admin\":true,\"push\":true,\"pull\":true}")
+                .append(",\"default_branch\":\"main\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    private static String buildCommitDetail(int fileCount, int linesPerPatch) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"sha\":\"0123456789abcdef0123456789abcdef01234567\"")
+            .append(",\"commit\":{\"message\":\"Refactor services\"")
+            .append(",\"author\":{\"name\":\"Octo Cat\",\"email\":\"octo@example.com\",\"date\":\"2024-06-01T00:00:00Z\"}")
+            .append(",\"committer\":{\"name\":\"Octo Cat\",\"email\":\"octo@example.com\",\"date\":\"2024-06-01T00:00:00Z\"}}")
+            .append(",\"stats\":{\"additions\":").append(fileCount * linesPerPatch)
+            .append(",\"deletions\":0,\"total\":").append(fileCount * linesPerPatch).append('}')
+            .append(",\"files\":[");
+        for (int i = 0; i < fileCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"sha\":\"abc").append(i).append("\"")
+                .append(",\"filename\":\"src/main/java/Sample").append(i).append(".java\"")
+                .append(",\"status\":\"modified\"")
+                .append(",\"additions\":").append(linesPerPatch)
+                .append(",\"deletions\":0,\"changes\":").append(linesPerPatch)
+                .append(",\"patch\":\"@@ -1,0 +1,").append(linesPerPatch).append(" @@");
+            for (int line = 0; line < linesPerPatch; line++) {
+                json.append("\\n+    private int field").append(line).append(" = ").append(line).append(";");
+            }
+            json.append("\"}");
+        }
+        return json.append("]}").toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.mc.mc_server.util;
+
+import com.mc.mc_server.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나를 인증할 때의 JWT 검증 처리량(초당 토큰 수)을 비교합니다.
+ * legacy: 호출마다 키와 파서를 새로 만들고 extractUsername + validateToken으로 세 번 파싱하던 기존 방식
+ * reused: 키와 파서를 재사용하고 한 번만 파싱하는 JwtUtil
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "mySecretKey123456789012345678901234567890";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 86400000L);
+        token = jwtUtil.generateToken(new User("bench@example.com", "password"));
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        String username = legacyClaims(token).getSubject();
+        // 기존 validateToken: extractUsername + isTokenExpired(extractExpiration)
+        boolean sameUser = legacyClaims(token).getSubject().equals(username);
+        return sameUser && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean reused() {
+        Claims claims = jwtUtil.parseClaims(token);
+        return claims.getSubject() != null && claims.getExpiration().after(new Date());
+    }
+
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
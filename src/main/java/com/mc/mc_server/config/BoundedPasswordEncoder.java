@@ -0,0 +1,135 @@
+package com.mc.mc_server.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BCrypt 해시/검증을 전용 스레드 풀에서 실행하는 PasswordEncoder입니다.
+ * 로그인이 몰려도 해시 계산에 쓰이는 CPU는 풀 크기로 제한되어 다른 API 요청이 밀리지 않으며,
+ * 대기열이 가득 차거나 제한 시간을 넘기면 {@link PasswordHashingBusyException}을 던집니다.
+ * 저장된 해시의 cost가 설정값보다 낮으면 upgradeEncoding이 true를 반환해 로그인 시 다시 해시됩니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    
+    private static final Logger logger = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+    
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final int strength;
+    
+    private final AtomicLong hashCount = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, Duration maxWait) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.maxWaitMillis = maxWait.toMillis();
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads,
+            60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            // 요청 스레드에서 직접 실행하면 제한이 무의미하므로 거절
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+    
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+    
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+    
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+    
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    record(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            logger.warn("Password hashing queue is full ({} waiting)", executor.getQueue().size());
+            throw new PasswordHashingBusyException();
+        }
+        
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.incrementAndGet();
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+    
+    private void record(long elapsedNanos) {
+        hashCount.incrementAndGet();
+        totalHashNanos.addAndGet(elapsedNanos);
+        maxHashNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+    
+    public Map<String, Object> getStats() {
+        long count = hashCount.get();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("strength", strength);
+        stats.put("hashes", count);
+        stats.put("avgMillis", count == 0 ? 0.0 : totalHashNanos.get() / 1_000_000.0 / count);
+        stats.put("maxMillis", maxHashNanos.get() / 1_000_000.0);
+        stats.put("rejected", rejected.get());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        return stats;
+    }
+    
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,75 @@
+package com.mc.mc_server.config;
+
+import com.mc.mc_server.service.GitHubRateLimiter;
+import com.mc.mc_server.util.TokenFingerprint;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * GitHub API 호출마다 토큰별 요청 한도를 확인하고, 한도 초과 응답(403/429)은 백오프 후 재시도합니다.
+ */
+public class GitHubRateLimitInterceptor implements ClientHttpRequestInterceptor {
+    
+    private static final String TOKEN_PREFIX = "token ";
+    
+    private final GitHubRateLimiter rateLimiter;
+    private final int maxRetries;
+    
+    public GitHubRateLimitInterceptor(GitHubRateLimiter rateLimiter, int maxRetries) {
+        this.rateLimiter = rateLimiter;
+        this.maxRetries = maxRetries;
+    }
+    
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) 
+            throws IOException {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(TOKEN_PREFIX)) {
+            return execution.execute(request, body);
+        }
+        String tokenKey = TokenFingerprint.of(authorization.substring(TOKEN_PREFIX.length()));
+        
+        for (int attempt = 0; ; attempt++) {
+            try {
+                rateLimiter.acquire(tokenKey);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("GitHub 요청 대기 중 중단되었습니다.");
+            }
+            
+            ClientHttpResponse response = execution.execute(request, body);
+            rateLimiter.update(tokenKey, response.getHeaders());
+            
+            if (!isRateLimited(response) || attempt >= maxRetries) {
+                return response;
+            }
+            if (rateLimiter.backOff(tokenKey, attempt, response.getHeaders()) < 0) {
+                // 너무 오래 기다려야 하면 재시도하지 않고 그대로 실패 응답을 돌려줌
+                return response;
+            }
+            response.close();
+        }
+    }
+    
+    private boolean isRateLimited(ClientHttpResponse response) throws IOException {
+        HttpStatusCode status = response.getStatusCode();
+        if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return true;
+        }
+        if (status.value() != HttpStatus.FORBIDDEN.value()) {
+            return false;
+        }
+        // 403은 권한 문제일 수도 있으므로 한도 관련 헤더가 있을 때만 한도 초과로 판단 (2차 한도는 Retry-After 포함)
+        HttpHeaders headers = response.getHeaders();
+        return headers.getFirst(HttpHeaders.RETRY_AFTER) != null 
+            || "0".equals(headers.getFirst("X-RateLimit-Remaining"));
+    }
+}
@@ -0,0 +1,11 @@
+package com.mc.mc_server.config;
+
+/**
+ * 비밀번호 해시 작업이 몰려 제한 시간 안에 처리할 수 없을 때 발생합니다.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    
+    public PasswordHashingBusyException() {
+        super("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -1,14 +1,64 @@
 package com.mc.mc_server.config;
 
+import com.mc.mc_server.service.GitHubRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
-    
+
+    @Value("${github.http.version:HTTP_2}")
+    private HttpClient.Version httpVersion;
+
+    @Value("${github.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${github.http.read-timeout:30s}")
+    private Duration readTimeout;
+
+    @Value("${github.http.pool.max-connections:64}")
+    private int maxPooledConnections;
+
+    @Value("${github.http.pool.keep-alive:5m}")
+    private Duration keepAlive;
+
+    @Value("${github.rate-limit.max-retries:3}")
+    private int rateLimitMaxRetries;
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient gitHubHttpClient() {
+        // JDK HttpClient의 커넥션 풀은 시스템 프로퍼티로만 조정할 수 있으므로 첫 클라이언트 생성 전에 설정
+        // (JVM 옵션으로 이미 지정된 값이 있으면 그대로 사용)
+        setPropertyIfAbsent("jdk.httpclient.connectionPoolSize", String.valueOf(maxPooledConnections));
+        setPropertyIfAbsent("jdk.httpclient.keepalive.timeout", String.valueOf(keepAlive.toSeconds()));
+
+        // 호스트별로 커넥션을 재사용하고, HTTP/2 협상 시 하나의 커넥션에서 요청을 다중화
+        return HttpClient.newBuilder()
+                .version(httpVersion)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(HttpClient gitHubHttpClient, GitHubRateLimiter gitHubRateLimiter) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(gitHubHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(new GitHubRateLimitInterceptor(gitHubRateLimiter, rateLimitMaxRetries));
+        return restTemplate;
+    }
+
+    private static void setPropertyIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.mc.mc_server.controller;
 
+import com.mc.mc_server.config.PasswordHashingBusyException;
 import com.mc.mc_server.dto.AuthResponse;
 import com.mc.mc_server.dto.LoginRequest;
 import com.mc.mc_server.dto.SignupRequest;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -37,12 +39,19 @@ public class AuthController {
     @Operation(summary = "회원가입", description = "새로운 사용자 계정을 생성합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "회원가입 성공"),
-        @ApiResponse(responseCode = "400", description = "잘못된 요청 (이메일 중복 등)")
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (이메일 중복 등)"),
+        @ApiResponse(responseCode = "503", description = "요청이 많아 잠시 후 다시 시도 필요")
     })
     public ResponseEntity<?> signup(@Valid @RequestBody SignupRequest request) {
         try {
             AuthResponse response = userService.signup(request);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -54,12 +63,19 @@ public class AuthController {
     @Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "로그인 성공"),
-        @ApiResponse(responseCode = "401", description = "인증 실패 (잘못된 이메일 또는 비밀번호)")
+        @ApiResponse(responseCode = "401", description = "인증 실패 (잘못된 이메일 또는 비밀번호)"),
+        @ApiResponse(responseCode = "503", description = "요청이 많아 잠시 후 다시 시도 필요")
     })
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
         try {
             AuthResponse response = userService.login(request);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -0,0 +1,245 @@
+package com.mc.mc_server.controller;
+
+import com.mc.mc_server.entity.User;
+import com.mc.mc_server.service.CommentJob;
+import com.mc.mc_server.service.CommentJobRejectedException;
+import com.mc.mc_server.service.CommentJobService;
+import com.mc.mc_server.service.GitHubRateLimitException;
+import com.mc.mc_server.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/github")
+@Tag(name = "GitHub 주석 작업", description = "주석 미리보기/적용을 백그라운드 작업으로 실행하고 진행 상황을 조회")
+public class CommentJobController {
+
+    private final CommentJobService commentJobService;
+    private final UserService userService;
+
+    @Autowired
+    public CommentJobController(CommentJobService commentJobService, UserService userService) {
+        this.commentJobService = commentJobService;
+        this.userService = userService;
+    }
+
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() ||
+            "anonymousUser".equals(authentication.getName())) {
+            throw new RuntimeException("인증되지 않은 사용자입니다.");
+        }
+
+        // authentication.getPrincipal()이 User 객체인 경우
+        if (authentication.getPrincipal() instanceof User user) {
+            return user;
+        }
+
+        // authentication.getName()으로 이메일을 가져와서 사용자 조회
+        return userService.findByEmail(authentication.getName());
+    }
+
+    private String getGitHubToken(User user) {
+        if (user.getGithubToken() == null || user.getGithubToken().isEmpty()) {
+            throw new RuntimeException("GitHub 토큰이 설정되지 않았습니다.");
+        }
+        return user.getGithubToken();
+    }
+
+    @PostMapping("/repositories/{owner}/{repo}/commits/{sha}/preview-comments/jobs")
+    @Operation(summary = "AI 주석 미리보기 작업 제출",
+               description = "preview-comments를 백그라운드 작업으로 실행하고 바로 작업 ID를 반환합니다. "
+                   + "결과(미리보기와 sessionId)는 GET /api/github/jobs/{jobId}로 조회합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "작업 접수"),
+        @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음"),
+        @ApiResponse(responseCode = "429", description = "진행 중인 작업이 많거나 GitHub 요청 한도를 초과해 접수할 수 없음 (Retry-After 이후 재시도)")
+    })
+    public ResponseEntity<?> submitPreview(
+            @Parameter(description = "레포지토리 소유자", required = true, example = "username")
+            @PathVariable String owner,
+            @Parameter(description = "레포지토리 이름", required = true, example = "my-repo")
+            @PathVariable String repo,
+            @Parameter(description = "커밋 SHA", required = true, example = "abc123def456")
+            @PathVariable String sha,
+            @Parameter(description = "대상 브랜치", example = "main")
+            @RequestParam(defaultValue = "main") String branch) {
+        try {
+            User user = getCurrentUser();
+            CommentJob job = commentJobService.submitPreview(user.getId(), getGitHubToken(user), owner, repo, sha, branch);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(toResponse(job, false));
+        } catch (CommentJobRejectedException e) {
+            return rejected(e);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
+        } catch (RuntimeException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @PostMapping("/repositories/{owner}/{repo}/commits/{sha}/apply-comments/jobs")
+    @Operation(summary = "AI 주석 적용 및 푸시 작업 제출",
+               description = "apply-comments를 백그라운드 작업으로 실행하고 바로 작업 ID를 반환합니다. "
+                   + "푸시를 시작한 뒤에는 취소할 수 없습니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "작업 접수"),
+        @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음"),
+        @ApiResponse(responseCode = "429", description = "진행 중인 작업이 많거나 GitHub 요청 한도를 초과해 접수할 수 없음 (Retry-After 이후 재시도)")
+    })
+    public ResponseEntity<?> submitApplyAndPush(
+            @Parameter(description = "레포지토리 소유자", required = true, example = "username")
+            @PathVariable String owner,
+            @Parameter(description = "레포지토리 이름", required = true, example = "my-repo")
+            @PathVariable String repo,
+            @Parameter(description = "커밋 SHA", required = true, example = "abc123def456")
+            @PathVariable String sha,
+            @Parameter(description = "대상 브랜치", example = "main")
+            @RequestParam(defaultValue = "main") String branch) {
+        try {
+            User user = getCurrentUser();
+            CommentJob job = commentJobService.submitApplyAndPush(user.getId(), getGitHubToken(user), owner, repo, sha, branch);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(toResponse(job, false));
+        } catch (CommentJobRejectedException e) {
+            return rejected(e);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
+        } catch (RuntimeException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/jobs")
+    @Operation(summary = "내 주석 작업 목록", description = "보관 중인 내 작업의 상태와 진행률을 최근 제출 순으로 조회합니다 (결과 제외).")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> getJobs() {
+        try {
+            User user = getCurrentUser();
+            List<Map<String, Object>> response = new ArrayList<>();
+            for (CommentJob job : commentJobService.getJobs(user.getId())) {
+                response.add(toResponse(job, false));
+            }
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "주석 작업 조회", description = "작업 상태와 진행률을 조회합니다. 완료(SUCCEEDED)된 작업은 result에 결과가 포함됩니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> getJob(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String jobId) {
+        try {
+            User user = getCurrentUser();
+            CommentJob job = commentJobService.getJob(user.getId(), jobId);
+            return ResponseEntity.ok(toResponse(job, true));
+        } catch (RuntimeException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @DeleteMapping("/jobs/{jobId}")
+    @Operation(summary = "주석 작업 취소", description = "대기 중이거나 실행 중인 작업을 취소합니다. 이미 끝났거나 푸시를 시작한 작업은 409를 반환합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "취소 요청 접수"),
+        @ApiResponse(responseCode = "409", description = "취소할 수 없는 상태")
+    })
+    public ResponseEntity<?> cancelJob(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String jobId) {
+        try {
+            User user = getCurrentUser();
+            if (!commentJobService.cancel(user.getId(), jobId)) {
+                Map<String, Object> error = new HashMap<>();
+                error.put("success", false);
+                error.put("error", "이미 완료되었거나 푸시 중인 작업은 취소할 수 없습니다.");
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+            }
+            return ResponseEntity.ok(toResponse(commentJobService.getJob(user.getId(), jobId), false));
+        } catch (RuntimeException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    private ResponseEntity<?> rejected(CommentJobRejectedException e) {
+        return tooManyRequests(e.getMessage(), 5);
+    }
+
+    private ResponseEntity<?> rateLimited(GitHubRateLimitException e) {
+        return tooManyRequests(e.getMessage(), e.getRetryAfterSeconds());
+    }
+
+    private ResponseEntity<?> tooManyRequests(String message, long retryAfterSeconds) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("success", false);
+        error.put("error", message);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .body(error);
+    }
+
+    private Map<String, Object> toResponse(CommentJob job, boolean includeResult) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("jobId", job.getId());
+        response.put("type", job.getType());
+        response.put("status", job.getStatus());
+        response.put("stage", job.getStage());
+        response.put("owner", job.getOwner());
+        response.put("repo", job.getRepo());
+        response.put("sha", job.getSha());
+        response.put("branch", job.getBranch());
+        response.put("totalFiles", job.getTotalFiles());
+        response.put("processedFiles", job.getProcessedFiles());
+        response.put("cancellable", job.isCancellable());
+        response.put("createdAt", job.getCreatedAt());
+        response.put("startedAt", job.getStartedAt());
+        response.put("finishedAt", job.getFinishedAt());
+        if (job.getError() != null) {
+            response.put("error", job.getError());
+        }
+        if (job.getRetryAfterSeconds() > 0) {
+            // GitHub 요청 한도 초과로 실패한 작업은 이 시간이 지난 뒤 다시 제출
+            response.put("retryAfterSeconds", job.getRetryAfterSeconds());
+        }
+        if (includeResult && job.getStatus() == CommentJob.Status.SUCCEEDED) {
+            response.put("result", job.getResult());
+        }
+        return response;
+    }
+}
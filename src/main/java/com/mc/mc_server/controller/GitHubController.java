@@ -1,9 +1,12 @@
 package com.mc.mc_server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mc.mc_server.dto.*;
 import com.mc.mc_server.entity.User;
 import com.mc.mc_server.service.CodeCommentPushService;
+import com.mc.mc_server.service.GitHubRateLimitException;
 import com.mc.mc_server.service.GitHubService;
+import com.mc.mc_server.service.SessionVersionConflictException;
 import com.mc.mc_server.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,15 +17,24 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/github")
@@ -31,15 +43,23 @@ public class GitHubController {
     
     private static final Logger logger = LoggerFactory.getLogger(GitHubController.class);
     
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    
     private final GitHubService gitHubService;
     private final UserService userService;
     private final CodeCommentPushService codeCommentPushService;
+    private final ObjectMapper objectMapper;
+    
+    // 스트리밍 응답에서 이 개수만큼 쓸 때마다 flush
+    private static final int STREAM_FLUSH_INTERVAL = 50;
     
     @Autowired
-    public GitHubController(GitHubService gitHubService, UserService userService, CodeCommentPushService codeCommentPushService) {
+    public GitHubController(GitHubService gitHubService, UserService userService, CodeCommentPushService codeCommentPushService,
+                            ObjectMapper objectMapper) {
         this.gitHubService = gitHubService;
         this.userService = userService;
         this.codeCommentPushService = codeCommentPushService;
+        this.objectMapper = objectMapper;
     }
     
     private String getCurrentUserGitHubToken() {
@@ -94,7 +114,8 @@ public class GitHubController {
         @ApiResponse(responseCode = "200", description = "사용자명 조회 성공"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음"),
-        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패")
+        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
     })
     public ResponseEntity<?> getUsername() {
         try {
@@ -105,6 +126,8 @@ public class GitHubController {
             response.put("username", username);
             
             return ResponseEntity.ok(response);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
         } catch (RuntimeException e) {
             logger.error("Runtime exception: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -125,13 +148,16 @@ public class GitHubController {
         @ApiResponse(responseCode = "200", description = "사용자 정보 조회 성공"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음"),
-        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패")
+        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
     })
     public ResponseEntity<?> getUserInfo() {
         try {
             String githubToken = getCurrentUserGitHubToken();
             GitHubUser user = gitHubService.getUserInfo(githubToken);
             return ResponseEntity.ok(user);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
         } catch (RuntimeException e) {
             logger.error("GitHub getUserInfo error: {}", e.getMessage(), e);
             Map<String, String> error = new HashMap<>();
@@ -151,7 +177,8 @@ public class GitHubController {
         @ApiResponse(responseCode = "200", description = "사용자명 조회 성공"),
         @ApiResponse(responseCode = "400", description = "토큰이 누락되거나 잘못됨"),
         @ApiResponse(responseCode = "401", description = "토큰이 유효하지 않음"),
-        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패")
+        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
     })
     public ResponseEntity<?> getUsernameByToken(
             @Parameter(description = "GitHub Personal Access Token", required = true)
@@ -169,6 +196,8 @@ public class GitHubController {
             response.put("username", username);
             
             return ResponseEntity.ok(response);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -186,7 +215,8 @@ public class GitHubController {
         @ApiResponse(responseCode = "200", description = "토큰 검증 성공 및 사용자 정보 반환"),
         @ApiResponse(responseCode = "400", description = "잘못된 토큰 또는 토큰이 누락됨"),
         @ApiResponse(responseCode = "401", description = "토큰이 유효하지 않음"),
-        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패")
+        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
     })
     public ResponseEntity<?> validateTokenAndGetUser(
             @Parameter(description = "GitHub Personal Access Token", required = true)
@@ -206,6 +236,8 @@ public class GitHubController {
             response.put("user", user);
             
             return ResponseEntity.ok(response);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
         } catch (RuntimeException e) {
             Map<String, Object> error = new HashMap<>();
             error.put("valid", false);
@@ -219,6 +251,28 @@ public class GitHubController {
         }
     }
     
+    @GetMapping("/rate-limit")
+    @Operation(summary = "GitHub API 요청 한도 조회", description = "현재 사용자의 GitHub 토큰에 남은 API 요청 한도를 조회합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "요청 한도 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
+    })
+    public ResponseEntity<?> getRateLimit() {
+        try {
+            String githubToken = getCurrentUserGitHubToken();
+            return ResponseEntity.ok(gitHubService.getRateLimitStatus(githubToken));
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
     // ========== 레포지토리 관리 API ==========
     
     @GetMapping("/repositories")
@@ -228,13 +282,16 @@ public class GitHubController {
         @ApiResponse(responseCode = "200", description = "레포지토리 목록 조회 성공"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음"),
-        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패")
+        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
     })
     public ResponseEntity<?> getRepositories() {
         try {
             String githubToken = getCurrentUserGitHubToken();
             List<GitHubRepository> repositories = gitHubService.getUserRepositories(githubToken);
             return ResponseEntity.ok(repositories);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -253,7 +310,8 @@ public class GitHubController {
         @ApiResponse(responseCode = "200", description = "커밋 목록 조회 성공"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음"),
-        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패")
+        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
     })
     public ResponseEntity<?> getRepositoryCommits(
             @Parameter(description = "레포지토리 소유자", required = true, example = "username")
@@ -268,6 +326,8 @@ public class GitHubController {
             String githubToken = getCurrentUserGitHubToken();
             List<GitHubCommit> commits = gitHubService.getRepositoryCommits(githubToken, owner, repo, page, perPage);
             return ResponseEntity.ok(commits);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -279,6 +339,120 @@ public class GitHubController {
         }
     }
     
+    @GetMapping("/repositories/stream")
+    @Operation(summary = "레포지토리 목록 스트리밍 조회", 
+               description = "사용자의 GitHub 레포지토리 전체를 페이지를 따라가며 NDJSON(한 줄에 레포지토리 하나)으로 흘려보냅니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "레포지토리 스트리밍 시작"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음 또는 첫 페이지 조회 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
+    })
+    public ResponseEntity<StreamingResponseBody> streamRepositories() {
+        try {
+            String githubToken = getCurrentUserGitHubToken();
+            // 첫 페이지는 여기서 조회되므로 토큰/권한 오류는 400으로 응답
+            Stream<GitHubRepository> repositories = gitHubService.streamUserRepositories(githubToken);
+            return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(writeNdjson(repositories));
+        } catch (GitHubRateLimitException e) {
+            return streamRateLimited(e);
+        } catch (RuntimeException e) {
+            return streamError(e.getMessage());
+        }
+    }
+    
+    @GetMapping("/repositories/{owner}/{repo}/commits/stream")
+    @Operation(summary = "커밋 이력 스트리밍 조회", 
+               description = "레포지토리의 커밋 이력을 페이지를 따라가며 NDJSON(한 줄에 커밋 하나)으로 흘려보냅니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "커밋 스트리밍 시작"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음 또는 첫 페이지 조회 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
+    })
+    public ResponseEntity<StreamingResponseBody> streamRepositoryCommits(
+            @Parameter(description = "레포지토리 소유자", required = true, example = "username")
+            @PathVariable String owner,
+            @Parameter(description = "레포지토리 이름", required = true, example = "my-repo")
+            @PathVariable String repo,
+            @Parameter(description = "브랜치 또는 시작 커밋 SHA (기본값: 기본 브랜치)", example = "main")
+            @RequestParam(required = false) String sha,
+            @Parameter(description = "최대 커밋 수", example = "1000")
+            @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            String githubToken = getCurrentUserGitHubToken();
+            Stream<GitHubCommit> commits = gitHubService.streamRepositoryCommits(githubToken, owner, repo, sha)
+                .limit(Math.max(limit, 0));
+            return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(writeNdjson(commits));
+        } catch (GitHubRateLimitException e) {
+            return streamRateLimited(e);
+        } catch (RuntimeException e) {
+            return streamError(e.getMessage());
+        }
+    }
+    
+    /**
+     * 스트림의 항목을 한 줄에 하나씩 JSON으로 씁니다.
+     * 응답 도중 다음 페이지 조회가 실패하면 상태 코드를 바꿀 수 없으므로 마지막 줄에 error 객체를 씁니다.
+     */
+    private <T> StreamingResponseBody writeNdjson(Stream<T> items) {
+        return outputStream -> {
+            try (items) {
+                int written = 0;
+                Iterator<T> iterator = items.iterator();
+                try {
+                    while (iterator.hasNext()) {
+                        outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                        outputStream.write('\n');
+                        if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                            outputStream.flush();
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Streaming stopped after {} items: {}", written, e.getMessage());
+                    outputStream.write(objectMapper.writeValueAsBytes(Map.of("error", String.valueOf(e.getMessage()))));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            }
+        };
+    }
+    
+    private ResponseEntity<StreamingResponseBody> streamError(String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return ResponseEntity.badRequest()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(outputStream -> objectMapper.writeValue(outputStream, error));
+    }
+    
+    private ResponseEntity<StreamingResponseBody> streamRateLimited(GitHubRateLimitException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(outputStream -> objectMapper.writeValue(outputStream, error));
+    }
+    
+    /**
+     * GitHub 요청 한도를 초과해 요청을 보내지 못한 경우 429와 함께 다시 시도할 수 있는 시간을 알려줍니다.
+     */
+    private ResponseEntity<?> rateLimited(GitHubRateLimitException e) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("success", false);
+        error.put("error", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(error);
+    }
+    
     @GetMapping("/repositories/{owner}/{repo}/commits/{sha}")
     @Operation(summary = "커밋 상세 정보 조회", description = "특정 커밋의 상세 정보와 변경 내용을 조회합니다.")
     @SecurityRequirement(name = "Bearer Authentication")
@@ -286,7 +460,8 @@ public class GitHubController {
         @ApiResponse(responseCode = "200", description = "커밋 상세 정보 조회 성공"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음"),
-        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패")
+        @ApiResponse(responseCode = "500", description = "GitHub API 호출 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
     })
     public ResponseEntity<?> getCommitDetail(
             @Parameter(description = "레포지토리 소유자", required = true, example = "username")
@@ -299,6 +474,8 @@ public class GitHubController {
             String githubToken = getCurrentUserGitHubToken();
             GitHubCommitDetail commitDetail = gitHubService.getCommitDetail(githubToken, owner, repo, sha);
             return ResponseEntity.ok(commitDetail);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -319,7 +496,8 @@ public class GitHubController {
         @ApiResponse(responseCode = "200", description = "주석 미리보기 생성 성공"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음"),
-        @ApiResponse(responseCode = "500", description = "주석 미리보기 생성 실패")
+        @ApiResponse(responseCode = "500", description = "주석 미리보기 생성 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
     })
     public ResponseEntity<?> previewComments(
             @Parameter(description = "레포지토리 소유자", required = true, example = "username")
@@ -335,6 +513,8 @@ public class GitHubController {
             CommentPreviewResponse preview = codeCommentPushService.generateCommentsPreview(githubToken, owner, repo, sha, branch);
             
             return ResponseEntity.ok(preview);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
         } catch (RuntimeException e) {
             Map<String, Object> error = new HashMap<>();
             error.put("success", false);
@@ -348,6 +528,104 @@ public class GitHubController {
         }
     }
     
+    @PostMapping("/repositories/{owner}/{repo}/commits/{sha}/preview-comments/stream")
+    @Operation(summary = "커밋에 AI 주석 미리보기 스트리밍 생성", 
+               description = "preview-comments와 같은 미리보기를 NDJSON으로 흘려보냅니다. 첫 줄은 세션 정보(type=session), "
+                   + "이후 파일이 준비되는 대로 한 줄씩(type=file), 마지막에 세션 저장 완료(type=complete)를 보냅니다. "
+                   + "세션 수정/푸시는 complete를 받은 뒤에 호출해야 합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "미리보기 스트리밍 시작"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음 또는 커밋 조회 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
+    })
+    public ResponseEntity<StreamingResponseBody> streamPreviewComments(
+            @Parameter(description = "레포지토리 소유자", required = true, example = "username")
+            @PathVariable String owner,
+            @Parameter(description = "레포지토리 이름", required = true, example = "my-repo")
+            @PathVariable String repo,
+            @Parameter(description = "커밋 SHA", required = true, example = "abc123def456")
+            @PathVariable String sha,
+            @Parameter(description = "대상 브랜치", example = "main")
+            @RequestParam(defaultValue = "main") String branch) {
+        String githubToken;
+        GitHubCommitDetail commitDetail;
+        try {
+            githubToken = getCurrentUserGitHubToken();
+            // 커밋은 여기서 조회되므로 토큰/권한/존재하지 않는 커밋 오류는 400으로 응답
+            commitDetail = gitHubService.getCommitDetail(githubToken, owner, repo, sha);
+        } catch (GitHubRateLimitException e) {
+            return streamRateLimited(e);
+        } catch (RuntimeException e) {
+            return streamError(e.getMessage());
+        }
+        
+        StreamingResponseBody body = outputStream -> {
+            try {
+                codeCommentPushService.streamCommentsPreview(githubToken, owner, repo, sha, branch, commitDetail,
+                    new CodeCommentPushService.PreviewListener() {
+                        @Override
+                        public void onSession(String sessionId, int fileCount) {
+                            Map<String, Object> event = new LinkedHashMap<>();
+                            event.put("type", "session");
+                            event.put("sessionId", sessionId);
+                            event.put("commitSha", sha);
+                            event.put("commitMessage", commitDetail.getMessage());
+                            event.put("branch", branch);
+                            event.put("fileCount", fileCount);
+                            writeEvent(outputStream, event);
+                        }
+                        
+                        @Override
+                        public void onFile(CommentPreviewResponse.FileCommentPreview preview) {
+                            Map<String, Object> event = new LinkedHashMap<>();
+                            event.put("type", "file");
+                            event.put("file", preview);
+                            writeEvent(outputStream, event);
+                        }
+                        
+                        @Override
+                        public void onComplete(long sessionVersion, int modifiedFileCount) {
+                            Map<String, Object> event = new LinkedHashMap<>();
+                            event.put("type", "complete");
+                            event.put("version", sessionVersion);
+                            event.put("modifiedFiles", modifiedFileCount);
+                            writeEvent(outputStream, event);
+                        }
+                    });
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결이 끊긴 경우: 더 쓸 수 없음
+                throw e.getCause();
+            } catch (RuntimeException e) {
+                logger.warn("Preview streaming stopped: {}", e.getMessage());
+                Map<String, Object> event = new LinkedHashMap<>();
+                event.put("type", "error");
+                event.put("error", String.valueOf(e.getMessage()));
+                if (e instanceof GitHubRateLimitException rateLimit) {
+                    event.put("retryAfterSeconds", rateLimit.getRetryAfterSeconds());
+                }
+                writeEvent(outputStream, event);
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(NDJSON)
+            .body(body);
+    }
+    
+    /**
+     * 이벤트 하나를 한 줄로 쓰고 바로 내보냅니다 (파일 하나가 준비되는 즉시 클라이언트가 받도록).
+     */
+    private void writeEvent(OutputStream outputStream, Map<String, Object> event) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(event));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
     @PutMapping("/comments/session/{sessionId}")
     @Operation(summary = "세션의 주석 내용 수정", description = "미리보기 세션에 저장된 주석 내용을 수정합니다.")
     @SecurityRequirement(name = "Bearer Authentication")
@@ -376,15 +654,18 @@ public class GitHubController {
                 return ResponseEntity.badRequest().body(error);
             }
             
-            codeCommentPushService.updateSessionComments(sessionId, request.getUpdatedFiles());
+            long version = codeCommentPushService.updateSessionComments(sessionId, request.getUpdatedFiles());
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "주석이 성공적으로 수정되었습니다.");
             response.put("sessionId", sessionId);
             response.put("updatedFileCount", request.getUpdatedFiles().size());
+            response.put("version", version);
             
             return ResponseEntity.ok(response);
+        } catch (SessionVersionConflictException e) {
+            return sessionConflict(e);
         } catch (RuntimeException e) {
             Map<String, Object> error = new HashMap<>();
             error.put("success", false);
@@ -402,6 +683,73 @@ public class GitHubController {
         }
     }
     
+    @PatchMapping("/comments/session/{sessionId}")
+    @Operation(summary = "세션의 주석 내용 부분 수정", 
+               description = "파일 전체 대신 줄 범위 교체(edits) 또는 unified diff(diff)만 보내 세션 내용을 수정합니다. " +
+                             "baseVersion이 현재 세션 버전과 다르면 409를 반환합니다. 새 세션은 버전 1에서 시작합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "주석 수정 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 현재 내용과 맞지 않는 변경"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "다른 요청이 먼저 세션을 수정함")
+    })
+    public ResponseEntity<?> patchSessionComments(
+            @Parameter(description = "세션 ID", required = true)
+            @PathVariable String sessionId,
+            @Parameter(description = "파일별 변경 내용", required = true)
+            @RequestBody PatchSessionRequest request) {
+        try {
+            if (request.getBaseVersion() == null) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "baseVersion이 필요합니다.");
+                return ResponseEntity.badRequest().body(error);
+            }
+            
+            if (request.getPatches() == null || request.getPatches().isEmpty()) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "수정할 파일 내용이 없습니다.");
+                return ResponseEntity.badRequest().body(error);
+            }
+            
+            long version = codeCommentPushService.patchSessionComments(sessionId, request.getBaseVersion(), request.getPatches());
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "주석이 성공적으로 수정되었습니다.");
+            response.put("sessionId", sessionId);
+            response.put("updatedFileCount", request.getPatches().size());
+            response.put("version", version);
+            
+            return ResponseEntity.ok(response);
+        } catch (SessionVersionConflictException e) {
+            return sessionConflict(e);
+        } catch (RuntimeException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", e.getMessage());
+            
+            if (e.getMessage().contains("세션을 찾을 수 없습니다") || e.getMessage().contains("만료되었습니다")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            }
+            return ResponseEntity.badRequest().body(error);
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", "주석 수정 중 오류가 발생했습니다.");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+    
+    private ResponseEntity<?> sessionConflict(SessionVersionConflictException e) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("success", false);
+        error.put("error", e.getMessage());
+        error.put("currentVersion", e.getCurrentVersion());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
     @PostMapping("/comments/session/{sessionId}/push")
     @Operation(summary = "세션의 주석을 GitHub에 푸시", description = "미리보기 세션에 저장된 (수정된) 주석들을 실제로 GitHub에 푸시합니다.")
     @SecurityRequirement(name = "Bearer Authentication")
@@ -410,7 +758,8 @@ public class GitHubController {
         @ApiResponse(responseCode = "400", description = "잘못된 세션 ID"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음"),
-        @ApiResponse(responseCode = "500", description = "푸시 실패")
+        @ApiResponse(responseCode = "500", description = "푸시 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
     })
     public ResponseEntity<?> pushSessionComments(
             @Parameter(description = "세션 ID", required = true)
@@ -424,6 +773,8 @@ public class GitHubController {
             response.put("sessionId", sessionId);
             
             return ResponseEntity.ok(response);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
         } catch (RuntimeException e) {
             Map<String, Object> error = new HashMap<>();
             error.put("success", false);
@@ -489,7 +840,8 @@ public class GitHubController {
         @ApiResponse(responseCode = "200", description = "주석 적용 및 푸시 성공"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "400", description = "GitHub 토큰이 설정되지 않음"),
-        @ApiResponse(responseCode = "500", description = "주석 적용 또는 푸시 실패")
+        @ApiResponse(responseCode = "500", description = "주석 적용 또는 푸시 실패"),
+        @ApiResponse(responseCode = "429", description = "GitHub API 요청 한도 초과 (Retry-After 이후 재시도)")
     })
     public ResponseEntity<?> applyCommentsAndPush(
             @Parameter(description = "레포지토리 소유자", required = true, example = "username")
@@ -511,6 +863,8 @@ public class GitHubController {
             response.put("branch", branch);
             
             return ResponseEntity.ok(response);
+        } catch (GitHubRateLimitException e) {
+            return rateLimited(e);
         } catch (RuntimeException e) {
             Map<String, Object> error = new HashMap<>();
             error.put("success", false);
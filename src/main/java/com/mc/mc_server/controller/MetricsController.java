@@ -0,0 +1,98 @@
+package com.mc.mc_server.controller;
+
+import com.mc.mc_server.config.BoundedPasswordEncoder;
+import com.mc.mc_server.filter.JwtAuthenticationFilter;
+import com.mc.mc_server.service.CommentJobService;
+import com.mc.mc_server.service.CommentSessionService;
+import com.mc.mc_server.service.GitHubBlobCache;
+import com.mc.mc_server.service.GitHubRateLimiter;
+import com.mc.mc_server.service.GitHubResponseCache;
+import com.mc.mc_server.service.GitHubService;
+import com.mc.mc_server.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/metrics")
+@Tag(name = "모니터링", description = "서버 내부 캐시 및 리소스 사용량 조회")
+public class MetricsController {
+    
+    private final GitHubService gitHubService;
+    private final GitHubBlobCache gitHubBlobCache;
+    private final GitHubResponseCache gitHubResponseCache;
+    private final GitHubRateLimiter gitHubRateLimiter;
+    private final CommentSessionService commentSessionService;
+    private final CommentJobService commentJobService;
+    private final UserService userService;
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final BoundedPasswordEncoder passwordEncoder;
+    
+    @Autowired
+    public MetricsController(GitHubService gitHubService, GitHubBlobCache gitHubBlobCache, 
+                             GitHubResponseCache gitHubResponseCache, GitHubRateLimiter gitHubRateLimiter,
+                             CommentSessionService commentSessionService, CommentJobService commentJobService,
+                             UserService userService,
+                             JwtAuthenticationFilter jwtAuthenticationFilter, BoundedPasswordEncoder passwordEncoder) {
+        this.gitHubService = gitHubService;
+        this.gitHubBlobCache = gitHubBlobCache;
+        this.gitHubResponseCache = gitHubResponseCache;
+        this.gitHubRateLimiter = gitHubRateLimiter;
+        this.commentSessionService = commentSessionService;
+        this.commentJobService = commentJobService;
+        this.userService = userService;
+        this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.passwordEncoder = passwordEncoder;
+    }
+    
+    @GetMapping("/github-cache")
+    @Operation(summary = "GitHub 캐시 통계", description = "blob 캐시, 커밋 캐시, 조건부 요청 캐시의 적중/미스 통계를 조회합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> getGitHubCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("blobs", gitHubBlobCache.getStats());
+        response.put("commits", gitHubService.getCommitCacheStats());
+        response.put("conditionalRequests", gitHubResponseCache.getStats());
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/github-rate-limit")
+    @Operation(summary = "GitHub 요청 한도 통계", description = "추적 중인 토큰 수, 최소 잔여 한도, 속도 조절/거부/재시도 횟수를 조회합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> getGitHubRateLimitStats() {
+        return ResponseEntity.ok(gitHubRateLimiter.getStats());
+    }
+    
+    @GetMapping("/comment-sessions")
+    @Operation(summary = "주석 미리보기 세션 통계", description = "보관 중인 세션 수, 추정 메모리 사용량과 한도, 한도 초과로 제거된 세션 수를 조회합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> getCommentSessionStats() {
+        return ResponseEntity.ok(commentSessionService.getStats());
+    }
+    
+    @GetMapping("/comment-jobs")
+    @Operation(summary = "주석 작업 통계", description = "실행/대기 중인 작업 수, 스레드 수와 대기열 크기, 사용자별/대기열 초과로 거절된 횟수를 조회합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> getCommentJobStats() {
+        return ResponseEntity.ok(commentJobService.getStats());
+    }
+    
+    @GetMapping("/auth")
+    @Operation(summary = "인증 통계", description = "JWT 인증 결과별 횟수(성공, 토큰 없음, 만료, 위조/형식 오류, 사용자 없음), 사용자 캐시 적중/미스 횟수, 비밀번호 해시 소요 시간과 거부 횟수를 조회합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> getAuthStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("filter", jwtAuthenticationFilter.getStats());
+        response.put("principalCache", userService.getPrincipalCacheStats());
+        response.put("passwordHashing", passwordEncoder.getStats());
+        return ResponseEntity.ok(response);
+    }
+}
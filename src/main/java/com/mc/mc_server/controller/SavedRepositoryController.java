@@ -1,6 +1,7 @@
 package com.mc.mc_server.controller;
 
 import com.mc.mc_server.dto.SaveRepositoryRequest;
+import com.mc.mc_server.dto.SavedRepositoryPageResponse;
 import com.mc.mc_server.dto.SavedRepositoryResponse;
 import com.mc.mc_server.entity.User;
 import com.mc.mc_server.service.SavedRepositoryService;
@@ -12,8 +13,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,7 +26,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -29,6 +33,8 @@ import java.util.Map;
 @Tag(name = "저장된 레포지토리", description = "사용자가 저장한 GitHub 레포지토리 관리 API")
 public class SavedRepositoryController {
     
+    private static final Logger logger = LoggerFactory.getLogger(SavedRepositoryController.class);
+    
     @Autowired
     private SavedRepositoryService savedRepositoryService;
     
@@ -81,6 +87,12 @@ public class SavedRepositoryController {
             User user = getCurrentUser();
             SavedRepositoryResponse response = savedRepositoryService.saveRepository(user, request);
             return ResponseEntity.ok(response);
+        } catch (DataIntegrityViolationException e) {
+            // 중복 저장이 아닌 제약 위반은 DB 메시지를 노출하지 않고 서버 오류로 응답
+            logger.error("Failed to save repository: {}", e.getMessage());
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "레포지토리 저장 중 오류가 발생했습니다.");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         } catch (RuntimeException e) {
             Map<String, String> errorResponse = new HashMap<>();
             errorResponse.put("error", e.getMessage());
@@ -88,16 +100,20 @@ public class SavedRepositoryController {
         }
     }
     
-    @Operation(summary = "저장된 레포지토리 목록 조회", description = "사용자가 저장한 모든 GitHub 레포지토리 목록을 조회합니다.")
+    @Operation(summary = "저장된 레포지토리 목록 조회", description = "사용자가 저장한 GitHub 레포지토리 목록을 저장일 최신순으로 한 페이지씩 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회합니다.")
     @SecurityRequirement(name = "Bearer Authentication")
     @GetMapping
-    public ResponseEntity<List<SavedRepositoryResponse>> getSavedRepositories() {
+    public ResponseEntity<?> getSavedRepositories(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "" + SavedRepositoryService.DEFAULT_PAGE_SIZE) int size) {
         try {
             User user = getCurrentUser();
-            List<SavedRepositoryResponse> savedRepositories = savedRepositoryService.getSavedRepositories(user);
-            return ResponseEntity.ok(savedRepositories);
+            SavedRepositoryPageResponse page = savedRepositoryService.getSavedRepositories(user, cursor, size);
+            return ResponseEntity.ok(page);
         } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().build();
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
         }
     }
     
@@ -146,11 +162,11 @@ public class SavedRepositoryController {
         try {
             // 디버깅 정보 추가
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            System.out.println("SavedRepo - Authentication: " + auth);
-            System.out.println("SavedRepo - Authenticated: " + (auth != null ? auth.isAuthenticated() : "null"));
-            System.out.println("SavedRepo - Principal: " + (auth != null ? auth.getPrincipal() : "null"));
-            System.out.println("SavedRepo - Principal Class: " + (auth != null ? auth.getPrincipal().getClass().getSimpleName() : "null"));
-            System.out.println("SavedRepo - Name: " + (auth != null ? auth.getName() : "null"));
+            if (logger.isDebugEnabled()) {
+                logger.debug("SavedRepo - authenticated: {}, principal class: {}", 
+                    auth != null && auth.isAuthenticated(), 
+                    auth != null ? auth.getPrincipal().getClass().getSimpleName() : "null");
+            }
             
             User user = getCurrentUser();
             long count = savedRepositoryService.getSavedRepositoryCount(user);
@@ -163,8 +179,7 @@ public class SavedRepositoryController {
             ));
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
-            System.out.println("SavedRepo - Error: " + e.getMessage());
-            e.printStackTrace();
+            logger.warn("SavedRepo - failed to count saved repositories: {}", e.getMessage());
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("count", 0L);
             errorResponse.put("error", e.getMessage());
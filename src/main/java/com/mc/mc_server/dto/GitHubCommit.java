@@ -25,6 +25,18 @@ public class GitHubCommit {
     
     public GitHubCommit() {}
     
+    /**
+     * 같은 값을 가진 복사본을 만듭니다. 문자열(message 등)은 불변이므로 공유합니다.
+     */
+    public GitHubCommit(GitHubCommit other) {
+        this.sha = other.sha;
+        this.message = other.message;
+        this.authorName = other.authorName;
+        this.authorEmail = other.authorEmail;
+        this.date = other.date;
+        this.htmlUrl = other.htmlUrl;
+    }
+    
     // Getters and Setters
     public String getSha() {
         return sha;
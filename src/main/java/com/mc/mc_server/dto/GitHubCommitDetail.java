@@ -1,6 +1,7 @@
 package com.mc.mc_server.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
 import java.util.List;
 
 @Schema(description = "GitHub 커밋 상세 정보")
@@ -35,6 +36,26 @@ public class GitHubCommitDetail {
     
     public GitHubCommitDetail() {}
     
+    /**
+     * 파일 목록까지 복사한 사본을 만듭니다. 사본을 수정해도 원본에 영향이 없습니다.
+     */
+    public GitHubCommitDetail(GitHubCommitDetail other) {
+        this.sha = other.sha;
+        this.message = other.message;
+        this.authorName = other.authorName;
+        this.authorEmail = other.authorEmail;
+        this.date = other.date;
+        if (other.files != null) {
+            this.files = new ArrayList<>(other.files.size());
+            for (GitHubFile file : other.files) {
+                this.files.add(file == null ? null : new GitHubFile(file));
+            }
+        }
+        this.additions = other.additions;
+        this.deletions = other.deletions;
+        this.total = other.total;
+    }
+    
     // Getters and Setters
     public String getSha() {
         return sha;
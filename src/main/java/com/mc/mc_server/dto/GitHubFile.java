@@ -25,6 +25,18 @@ public class GitHubFile {
     
     public GitHubFile() {}
     
+    /**
+     * 같은 값을 가진 복사본을 만듭니다. 문자열(patch 등)은 불변이므로 공유합니다.
+     */
+    public GitHubFile(GitHubFile other) {
+        this.filename = other.filename;
+        this.status = other.status;
+        this.additions = other.additions;
+        this.deletions = other.deletions;
+        this.changes = other.changes;
+        this.patch = other.patch;
+    }
+    
     // Getters and Setters
     public String getFilename() {
         return filename;
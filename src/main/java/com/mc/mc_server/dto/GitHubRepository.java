@@ -34,6 +34,21 @@ public class GitHubRepository {
     
     public GitHubRepository() {}
     
+    /**
+     * 같은 값을 가진 복사본을 만듭니다.
+     */
+    public GitHubRepository(GitHubRepository other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.fullName = other.fullName;
+        this.description = other.description;
+        this.htmlUrl = other.htmlUrl;
+        this.defaultBranch = other.defaultBranch;
+        this.privateRepo = other.privateRepo;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -27,6 +27,27 @@ public class GitHubUser {
     // 기본 생성자
     public GitHubUser() {}
     
+    /**
+     * 같은 값을 가진 복사본을 만듭니다.
+     */
+    public GitHubUser(GitHubUser other) {
+        this.id = other.id;
+        this.login = other.login;
+        this.name = other.name;
+        this.email = other.email;
+        this.avatarUrl = other.avatarUrl;
+        this.bio = other.bio;
+        this.company = other.company;
+        this.location = other.location;
+        this.blog = other.blog;
+        this.publicRepos = other.publicRepos;
+        this.publicGists = other.publicGists;
+        this.followers = other.followers;
+        this.following = other.following;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+    
     // Getter와 Setter
     public Long getId() {
         return id;
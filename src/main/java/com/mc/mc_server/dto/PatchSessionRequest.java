@@ -0,0 +1,81 @@
+package com.mc.mc_server.dto;
+
+import java.util.List;
+
+public class PatchSessionRequest {
+    private Long baseVersion; // 클라이언트가 알고 있는 세션 버전 (낙관적 동시성 제어)
+    private List<FilePatch> patches;
+
+    /**
+     * 파일 하나에 대한 변경. edits(줄 범위 교체)와 diff(unified diff) 중 하나만 지정합니다.
+     */
+    public static class FilePatch {
+        private String filename;
+        private List<LineEdit> edits;
+        private String diff;
+
+        // Constructors
+        public FilePatch() {}
+
+        public FilePatch(String filename, List<LineEdit> edits, String diff) {
+            this.filename = filename;
+            this.edits = edits;
+            this.diff = diff;
+        }
+
+        // Getters and Setters
+        public String getFilename() { return filename; }
+        public void setFilename(String filename) { this.filename = filename; }
+
+        public List<LineEdit> getEdits() { return edits; }
+        public void setEdits(List<LineEdit> edits) { this.edits = edits; }
+
+        public String getDiff() { return diff; }
+        public void setDiff(String diff) { this.diff = diff; }
+    }
+
+    /**
+     * startLine ~ endLine(1부터 시작, 끝 포함) 줄을 lines로 교체합니다.
+     * endLine = startLine - 1 이면 startLine 앞에 삽입, lines가 비어 있으면 삭제입니다.
+     * 줄 번호는 모두 변경 전(baseVersion) 내용 기준입니다.
+     */
+    public static class LineEdit {
+        private int startLine;
+        private int endLine;
+        private List<String> lines;
+
+        // Constructors
+        public LineEdit() {}
+
+        public LineEdit(int startLine, int endLine, List<String> lines) {
+            this.startLine = startLine;
+            this.endLine = endLine;
+            this.lines = lines;
+        }
+
+        // Getters and Setters
+        public int getStartLine() { return startLine; }
+        public void setStartLine(int startLine) { this.startLine = startLine; }
+
+        public int getEndLine() { return endLine; }
+        public void setEndLine(int endLine) { this.endLine = endLine; }
+
+        public List<String> getLines() { return lines; }
+        public void setLines(List<String> lines) { this.lines = lines; }
+    }
+
+    // Constructors
+    public PatchSessionRequest() {}
+
+    public PatchSessionRequest(Long baseVersion, List<FilePatch> patches) {
+        this.baseVersion = baseVersion;
+        this.patches = patches;
+    }
+
+    // Getters and Setters
+    public Long getBaseVersion() { return baseVersion; }
+    public void setBaseVersion(Long baseVersion) { this.baseVersion = baseVersion; }
+
+    public List<FilePatch> getPatches() { return patches; }
+    public void setPatches(List<FilePatch> patches) { this.patches = patches; }
+}
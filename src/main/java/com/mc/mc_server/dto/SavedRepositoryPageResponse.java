@@ -0,0 +1,51 @@
+package com.mc.mc_server.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "저장된 레포지토리 목록 페이지")
+public class SavedRepositoryPageResponse {
+    
+    @Schema(description = "저장일 최신순 레포지토리 목록")
+    private List<SavedRepositoryResponse> items;
+    
+    @Schema(description = "다음 페이지 조회에 사용할 커서 (마지막 페이지면 null)", example = "MjAyMy0xMi0xNVQxMDozMDowMHw0Mg")
+    private String nextCursor;
+    
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+    
+    public SavedRepositoryPageResponse() {}
+    
+    public SavedRepositoryPageResponse(List<SavedRepositoryResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+    
+    // Getters and Setters
+    public List<SavedRepositoryResponse> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<SavedRepositoryResponse> items) {
+        this.items = items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
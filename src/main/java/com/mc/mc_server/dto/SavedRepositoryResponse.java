@@ -57,6 +57,26 @@ public class SavedRepositoryResponse {
         this.repositoryUpdatedAt = savedRepository.getRepositoryUpdatedAt();
     }
     
+    /**
+     * JPQL 생성자 표현식(select new ...)용 생성자. 엔티티를 거치지 않고 필요한 컬럼만 조회합니다.
+     */
+    public SavedRepositoryResponse(Long id, Long repositoryId, String repositoryName, String repositoryFullName,
+                                   String repositoryDescription, String repositoryUrl, String defaultBranch,
+                                   Boolean isPrivate, LocalDateTime savedAt,
+                                   String repositoryCreatedAt, String repositoryUpdatedAt) {
+        this.id = id;
+        this.repositoryId = repositoryId;
+        this.repositoryName = repositoryName;
+        this.repositoryFullName = repositoryFullName;
+        this.repositoryDescription = repositoryDescription;
+        this.repositoryUrl = repositoryUrl;
+        this.defaultBranch = defaultBranch;
+        this.isPrivate = isPrivate;
+        this.savedAt = savedAt;
+        this.repositoryCreatedAt = repositoryCreatedAt;
+        this.repositoryUpdatedAt = repositoryUpdatedAt;
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -0,0 +1,138 @@
+package com.mc.mc_server.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+@Entity
+@Table(name = "comment_sessions", indexes = {
+    @Index(name = "idx_comment_sessions_created_at", columnList = "created_at")
+})
+public class CommentSession {
+    
+    // H2 binary varying 컬럼 길이 (PostgreSQL bytea는 길이를 지정하지 않음)
+    private static final int MAX_FILES_BYTES = 64 * 1024 * 1024;
+    
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+    
+    @Column(name = "github_token", nullable = false)
+    private String githubToken;
+    
+    @Column(name = "owner", nullable = false)
+    private String owner;
+    
+    @Column(name = "repo", nullable = false)
+    private String repo;
+    
+    @Column(name = "commit_sha", nullable = false)
+    private String commitSha;
+    
+    @Column(name = "branch", nullable = false)
+    private String branch;
+    
+    // 생성 시각 (epoch millis, 만료 기준)
+    @Column(name = "created_at", nullable = false)
+    private Long createdAt;
+    
+    // 수정할 때마다 1씩 증가 (동시 수정 감지)
+    @Column(name = "session_version", nullable = false)
+    private Long version;
+    
+    // 파일별로 Deflate 압축한 내용을 이어 붙인 값 (DatabaseCommentSessionStore 참고)
+    // [형식 버전(1바이트)][파일 수] 다음에 파일마다 [경로 길이][UTF-8 경로][압축 길이][압축된 내용], 길이와 개수는 4바이트 정수
+    // @Lob은 PostgreSQL에서 oid(large object)가 되어 벌크 update/delete 후에도 pg_largeobject에 남으므로
+    // 행에 값이 바로 들어가는 bytea(H2는 binary varying)로 저장
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(name = "files", nullable = false, length = MAX_FILES_BYTES)
+    private byte[] files;
+    
+    public CommentSession() {}
+    
+    public CommentSession(String id, String githubToken, String owner, String repo, String commitSha,
+                          String branch, Long createdAt, Long version, byte[] files) {
+        this.id = id;
+        this.githubToken = githubToken;
+        this.owner = owner;
+        this.repo = repo;
+        this.commitSha = commitSha;
+        this.branch = branch;
+        this.createdAt = createdAt;
+        this.version = version;
+        this.files = files;
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getGithubToken() {
+        return githubToken;
+    }
+    
+    public void setGithubToken(String githubToken) {
+        this.githubToken = githubToken;
+    }
+    
+    public String getOwner() {
+        return owner;
+    }
+    
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+    
+    public String getRepo() {
+        return repo;
+    }
+    
+    public void setRepo(String repo) {
+        this.repo = repo;
+    }
+    
+    public String getCommitSha() {
+        return commitSha;
+    }
+    
+    public void setCommitSha(String commitSha) {
+        this.commitSha = commitSha;
+    }
+    
+    public String getBranch() {
+        return branch;
+    }
+    
+    public void setBranch(String branch) {
+        this.branch = branch;
+    }
+    
+    public Long getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(Long createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public byte[] getFiles() {
+        return files;
+    }
+    
+    public void setFiles(byte[] files) {
+        this.files = files;
+    }
+}
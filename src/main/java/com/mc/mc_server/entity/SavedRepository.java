@@ -4,9 +4,22 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "saved_repositories")
+@Table(
+    name = "saved_repositories",
+    uniqueConstraints = @UniqueConstraint(
+        name = SavedRepository.UNIQUE_USER_REPOSITORY,
+        columnNames = {"user_id", "repository_id"}
+    ),
+    indexes = @Index(
+        name = "idx_saved_repositories_user_created",
+        columnList = "user_id, created_at, id"
+    )
+)
 public class SavedRepository {
     
+    // 같은 사용자가 같은 레포지토리를 두 번 저장하지 못하도록 하는 제약 (중복 저장 판단에 사용)
+    public static final String UNIQUE_USER_REPOSITORY = "uk_saved_repositories_user_repository";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -3,11 +3,16 @@ package com.mc.mc_server.filter;
 import com.mc.mc_server.entity.User;
 import com.mc.mc_server.service.UserService;
 import com.mc.mc_server.util.JwtUtil;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,56 +20,107 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    // 인증 결과 로그 (토큰/헤더 값은 절대 기록하지 않음)
+    private static final Logger authLogger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+    
     @Autowired
     private JwtUtil jwtUtil;
     
     @Autowired
     private UserService userService;
     
+    // 인증 실패 경고 로그는 이 간격마다 최대 한 번만 남기고 나머지는 카운터로 집계
+    @Value("${auth.log.failure-sample-interval:10s}")
+    private Duration failureSampleInterval;
+    
+    private final AtomicLong lastFailureLoggedAt = new AtomicLong();
+    
+    private final AtomicLong authenticated = new AtomicLong();
+    private final AtomicLong noToken = new AtomicLong();
+    private final AtomicLong expiredTokens = new AtomicLong();
+    private final AtomicLong invalidTokens = new AtomicLong();
+    private final AtomicLong unknownUsers = new AtomicLong();
+    
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         
         final String authorizationHeader = request.getHeader("Authorization");
-        System.out.println("Authorization Header: " + authorizationHeader);
         
         String email = null;
         String jwt = null;
         
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
-            System.out.println("JWT Token: " + jwt.substring(0, Math.min(jwt.length(), 20)) + "...");
             try {
-                email = jwtUtil.extractUsername(jwt);
-                System.out.println("Extracted email: " + email);
-            } catch (Exception e) {
-                logger.error("JWT 토큰에서 사용자명을 추출할 수 없습니다", e);
+                // 서명과 만료 시간 검증을 한 번의 파싱으로 처리
+                email = jwtUtil.parseClaims(jwt).getSubject();
+            } catch (ExpiredJwtException e) {
+                expiredTokens.incrementAndGet();
+                logFailure("Expired JWT on {} {}", request);
+            } catch (JwtException | IllegalArgumentException e) {
+                invalidTokens.incrementAndGet();
+                logFailure("Invalid JWT on {} {}", request);
             }
+        } else {
+            noToken.incrementAndGet();
         }
         
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                User user = userService.findByEmail(email);
-                System.out.println("User loaded: " + user.getEmail());
+                // 토큰은 위에서 이미 검증되었으므로 사용자만 조회 (짧은 TTL 캐시)
+                User user = userService.loadPrincipal(email);
+                
+                UsernamePasswordAuthenticationToken authToken = 
+                    new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
                 
-                if (jwtUtil.validateToken(jwt, user)) {
-                    System.out.println("Token is valid, setting authentication");
-                    UsernamePasswordAuthenticationToken authToken = 
-                        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                } else {
-                    System.out.println("Token validation failed");
+                authenticated.incrementAndGet();
+                if (authLogger.isTraceEnabled()) {
+                    authLogger.trace("Authenticated user id={} on {} {}", user.getId(), request.getMethod(), request.getRequestURI());
                 }
             } catch (Exception e) {
-                logger.error("사용자를 찾을 수 없습니다: " + email, e);
+                unknownUsers.incrementAndGet();
+                logFailure("JWT subject not found on {} {}", request);
             }
         }
         
         filterChain.doFilter(request, response);
     }
+    
+    /**
+     * 잘못된 토큰이 대량으로 들어와도 로그가 병목이 되지 않도록 샘플링해서 기록합니다.
+     */
+    private void logFailure(String message, HttpServletRequest request) {
+        if (!authLogger.isWarnEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastFailureLoggedAt.get();
+        if (now - last >= failureSampleInterval.toMillis() && lastFailureLoggedAt.compareAndSet(last, now)) {
+            authLogger.warn(message, request.getMethod(), request.getRequestURI());
+        }
+    }
+    
+    /**
+     * 인증 결과별 누적 횟수를 반환합니다.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("authenticated", authenticated.get());
+        stats.put("noToken", noToken.get());
+        stats.put("expiredTokens", expiredTokens.get());
+        stats.put("invalidTokens", invalidTokens.get());
+        stats.put("unknownUsers", unknownUsers.get());
+        return stats;
+    }
 }
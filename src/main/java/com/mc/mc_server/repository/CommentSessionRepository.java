@@ -0,0 +1,28 @@
+package com.mc.mc_server.repository;
+
+import com.mc.mc_server.entity.CommentSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CommentSessionRepository extends JpaRepository<CommentSession, String> {
+    
+    /**
+     * 세션 버전이 일치할 때만 파일 내용과 버전을 교체 (없거나 버전이 다르면 0 반환)
+     */
+    @Modifying
+    @Query("update CommentSession s set s.files = :files, s.version = :newVersion " +
+           "where s.id = :id and s.version = :expectedVersion")
+    int updateFiles(@Param("id") String id, @Param("expectedVersion") Long expectedVersion,
+                    @Param("newVersion") Long newVersion, @Param("files") byte[] files);
+    
+    /**
+     * 주어진 시각 이전에 생성된 세션을 한 번에 삭제
+     */
+    @Modifying
+    @Query("delete from CommentSession s where s.createdAt <= :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") Long cutoff);
+}
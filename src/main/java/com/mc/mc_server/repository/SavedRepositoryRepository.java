@@ -1,20 +1,45 @@
 package com.mc.mc_server.repository;
 
+import com.mc.mc_server.dto.SavedRepositoryResponse;
 import com.mc.mc_server.entity.SavedRepository;
 import com.mc.mc_server.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SavedRepositoryRepository extends JpaRepository<SavedRepository, Long> {
     
+    String RESPONSE_PROJECTION = "select new com.mc.mc_server.dto.SavedRepositoryResponse("
+        + "s.id, s.repositoryId, s.repositoryName, s.repositoryFullName, s.repositoryDescription, "
+        + "s.repositoryUrl, s.defaultBranch, s.isPrivate, s.createdAt, "
+        + "s.repositoryCreatedAt, s.repositoryUpdatedAt) from SavedRepository s ";
+    
+    /**
+     * 특정 사용자의 저장된 레포지토리 첫 페이지 조회 (저장일 최신순, 같은 시각이면 id 역순)
+     */
+    @Query(RESPONSE_PROJECTION
+        + "where s.user = :user "
+        + "order by s.createdAt desc, s.id desc")
+    List<SavedRepositoryResponse> findFirstPage(@Param("user") User user, Limit limit);
+    
     /**
-     * 특정 사용자의 저장된 레포지토리 목록 조회
+     * (createdAt, id) 커서 다음부터 이어서 조회합니다. OFFSET을 쓰지 않으므로 페이지 위치와 관계없이 비용이 같습니다.
      */
-    List<SavedRepository> findByUserOrderByCreatedAtDesc(User user);
+    @Query(RESPONSE_PROJECTION
+        + "where s.user = :user "
+        + "and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.id < :id)) "
+        + "order by s.createdAt desc, s.id desc")
+    List<SavedRepositoryResponse> findPageAfter(@Param("user") User user,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Limit limit);
     
     /**
      * 특정 사용자가 특정 레포지토리를 저장했는지 확인
@@ -5,6 +5,9 @@ import com.mc.mc_server.dto.CommentPreviewResponse.FileCommentPreview;
 import com.mc.mc_server.dto.CommentPreviewResponse.FileCommentPreview.CommentItem;
 import com.mc.mc_server.dto.GitHubCommitDetail;
 import com.mc.mc_server.dto.GitHubFile;
+import com.mc.mc_server.dto.PatchSessionRequest;
+import com.mc.mc_server.util.LineScanner;
+import com.mc.mc_server.util.UnifiedDiff;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,12 +26,15 @@ public class CodeCommentPushService {
     private final GitHubService gitHubService;
     private final CodeCommentService codeCommentService;
     private final CommentSessionService commentSessionService;
+    private final GitHubFileFetcher gitHubFileFetcher;
     
     @Autowired
-    public CodeCommentPushService(GitHubService gitHubService, CodeCommentService codeCommentService, CommentSessionService commentSessionService) {
+    public CodeCommentPushService(GitHubService gitHubService, CodeCommentService codeCommentService, 
+                                  CommentSessionService commentSessionService, GitHubFileFetcher gitHubFileFetcher) {
         this.gitHubService = gitHubService;
         this.codeCommentService = codeCommentService;
         this.commentSessionService = commentSessionService;
+        this.gitHubFileFetcher = gitHubFileFetcher;
     }
     
     /**
@@ -56,53 +62,40 @@ public class CodeCommentPushService {
             GitHubCommitDetail commitDetail = gitHubService.getCommitDetail(token, owner, repo, sha);
             logger.info("Retrieved commit detail: {}", commitDetail.getMessage());
             
-            // 2. 각 파일에 대해 주석 생성 (푸시하지 않음)
+            // 2. 처리 대상 파일들의 현재 내용을 병렬로 가져오기
+            List<GitHubFile> targetFiles = getProcessableFiles(commitDetail);
+            Map<String, GitHubFileFetcher.FetchResult> fetched = fetchFileContents(token, owner, repo, branch, targetFiles);
+            
+            // 3. 각 파일에 대해 주석 생성 (푸시하지 않음)
             Map<String, FileCommentPreview> filePreviews = new HashMap<>();
             Map<String, String> updatedFiles = new HashMap<>();
             
-            for (GitHubFile file : commitDetail.getFiles()) {
-                if (shouldProcessFile(file)) {
-                    logger.info("Processing file: {}", file.getFilename());
-                    
-                    try {
-                        // 현재 파일 내용 가져오기
-                        String currentContent = gitHubService.getFileContent(token, owner, repo, file.getFilename(), branch);
-                        
-                        // 주석 적용
-                        FileCommentResult result = applyCommentsToFileWithDetails(currentContent, file, commitDetail);
-                        
-                        if (result.commentedContent != null && !result.commentedContent.equals(currentContent)) {
-                            FileCommentPreview preview = new FileCommentPreview(
-                                file.getFilename(),
-                                currentContent,
-                                result.commentedContent,
-                                result.addedComments,
-                                true
-                            );
-                            filePreviews.put(file.getFilename(), preview);
-                            updatedFiles.put(file.getFilename(), result.commentedContent);
-                            logger.info("Generated comments for: {}", file.getFilename());
-                        } else {
-                            FileCommentPreview preview = new FileCommentPreview(
-                                file.getFilename(),
-                                currentContent,
-                                currentContent,
-                                new ArrayList<>(),
-                                false
-                            );
-                            filePreviews.put(file.getFilename(), preview);
-                        }
-                    } catch (Exception e) {
-                        logger.warn("Failed to process file {}: {}", file.getFilename(), e.getMessage());
-                        // 개별 파일 실패는 전체 프로세스를 중단하지 않음
+            for (GitHubFile file : targetFiles) {
+                GitHubFileFetcher.FetchResult fetchResult = fetched.get(file.getFilename());
+                if (fetchResult != null) {
+                    rethrowIfRateLimited(fetchResult);
+                }
+                if (fetchResult == null || !fetchResult.isSuccess()) {
+                    // 개별 파일 실패는 전체 프로세스를 중단하지 않음
+                    continue;
+                }
+                
+                try {
+                    FileCommentPreview preview = buildFilePreview(file, fetchResult.getContent(), commitDetail);
+                    filePreviews.put(file.getFilename(), preview);
+                    if (preview.isModified()) {
+                        updatedFiles.put(file.getFilename(), preview.getCommentedContent());
                     }
+                } catch (Exception e) {
+                    logger.warn("Failed to process file {}: {}", file.getFilename(), e.getMessage());
+                    // 개별 파일 실패는 전체 프로세스를 중단하지 않음
                 }
             }
             
-            // 3. 세션 생성 및 임시 저장
+            // 4. 세션 생성 및 임시 저장
             String sessionId = commentSessionService.createSession(token, owner, repo, sha, branch, updatedFiles);
             
-            // 4. 미리보기 응답 생성
+            // 5. 미리보기 응답 생성
             CommentPreviewResponse response = new CommentPreviewResponse(
                 sha,
                 commitDetail.getMessage(),
@@ -114,6 +107,8 @@ public class CodeCommentPushService {
             logger.info("Successfully generated preview with session: {}", sessionId);
             return response;
                 
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error in generateCommentsPreview: {}", e.getMessage(), e);
             throw new RuntimeException("주석 미리보기 생성 중 오류가 발생했습니다: " + e.getMessage());
@@ -121,18 +116,118 @@ public class CodeCommentPushService {
     }
     
     /**
-     * 세션에 저장된 내용을 업데이트합니다.
+     * 미리보기 스트림으로 결과를 받는 쪽. 모든 메서드는 streamCommentsPreview를 호출한 스레드에서 호출됩니다.
      */
-    public void updateSessionComments(String sessionId, Map<String, String> updatedFiles) {
+    public interface PreviewListener {
+        
+        /**
+         * 세션이 만들어지면 가장 먼저 호출됩니다. 세션 내용은 onComplete 이후에 채워집니다.
+         */
+        void onSession(String sessionId, int fileCount);
+        
+        /**
+         * 파일 하나의 주석 생성이 끝날 때마다 완료 순서대로 호출됩니다.
+         */
+        void onFile(FileCommentPreview preview);
+        
+        void onComplete(long sessionVersion, int modifiedFileCount);
+    }
+    
+    /**
+     * generateCommentsPreview와 같은 결과를 파일이 준비되는 대로 listener에 전달합니다.
+     * 커밋 조회는 호출 전에 끝나 있어야 하며 (오류를 일반 응답으로 돌려주기 위함),
+     * 모든 파일이 끝나면 주석이 추가된 파일들을 세션에 저장합니다.
+     * 저장 전에 실패하면 (클라이언트 연결 종료 포함) 미리 만든 빈 세션을 삭제하고 예외를 다시 던집니다.
+     */
+    public void streamCommentsPreview(String token, String owner, String repo, String sha, String branch,
+                                      GitHubCommitDetail commitDetail, PreviewListener listener) {
+        List<GitHubFile> targetFiles = getProcessableFiles(commitDetail);
+        Map<String, GitHubFile> filesByName = new HashMap<>();
+        List<String> paths = new ArrayList<>(targetFiles.size());
+        for (GitHubFile file : targetFiles) {
+            filesByName.put(file.getFilename(), file);
+            paths.add(file.getFilename());
+        }
+        
+        String sessionId = commentSessionService.createSession(token, owner, repo, sha, branch, new HashMap<>());
+        Map<String, String> updatedFiles = new HashMap<>();
+        long version;
         try {
-            commentSessionService.updateSessionFiles(sessionId, updatedFiles);
-            logger.info("Updated session files: {}", sessionId);
+            listener.onSession(sessionId, targetFiles.size());
+            
+            gitHubFileFetcher.fetchEach(token, owner, repo, paths, branch, fetchResult -> {
+                rethrowIfRateLimited(fetchResult);
+                if (!fetchResult.isSuccess()) {
+                    // 개별 파일 실패는 전체 프로세스를 중단하지 않음
+                    return;
+                }
+                FileCommentPreview preview;
+                try {
+                    preview = buildFilePreview(filesByName.get(fetchResult.getFilename()), fetchResult.getContent(), commitDetail);
+                } catch (Exception e) {
+                    logger.warn("Failed to process file {}: {}", fetchResult.getFilename(), e.getMessage());
+                    return;
+                }
+                if (preview.isModified()) {
+                    updatedFiles.put(preview.getFilename(), preview.getCommentedContent());
+                }
+                listener.onFile(preview);
+            });
+            
+            version = commentSessionService.updateSessionFiles(sessionId, updatedFiles);
+        } catch (SessionVersionConflictException e) {
+            // 스트리밍 중 다른 요청이 세션을 수정했으면 그 내용을 지우지 않음
+            throw e;
+        } catch (RuntimeException e) {
+            deleteUnfinishedSession(sessionId, e);
+            throw e;
+        }
+        logger.info("Streamed preview for {} files with session: {}", targetFiles.size(), sessionId);
+        listener.onComplete(version, updatedFiles.size());
+    }
+    
+    // 파일이 저장되지 않은 세션은 푸시해도 바뀌는 것이 없으므로 만료를 기다리지 않고 삭제
+    private void deleteUnfinishedSession(String sessionId, RuntimeException cause) {
+        try {
+            commentSessionService.deleteSession(sessionId);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            logger.warn("Failed to delete unfinished session {}: {}", sessionId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 세션에 저장된 내용을 업데이트합니다. 새 세션 버전을 반환합니다.
+     */
+    public long updateSessionComments(String sessionId, Map<String, String> updatedFiles) {
+        try {
+            long version = commentSessionService.updateSessionFiles(sessionId, updatedFiles);
+            logger.info("Updated session files: {} (version {})", sessionId, version);
+            return version;
+        } catch (SessionVersionConflictException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error updating session: {}", e.getMessage());
             throw new RuntimeException("세션 업데이트 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
     
+    /**
+     * 변경된 부분만 받아 세션에 저장된 내용에 적용합니다. 새 세션 버전을 반환합니다.
+     */
+    public long patchSessionComments(String sessionId, long baseVersion, List<PatchSessionRequest.FilePatch> patches) {
+        try {
+            long version = commentSessionService.patchSessionFiles(sessionId, baseVersion, patches);
+            logger.info("Patched {} session files: {} (version {})", patches.size(), sessionId, version);
+            return version;
+        } catch (SessionVersionConflictException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error patching session: {}", e.getMessage());
+            throw new RuntimeException("세션 업데이트 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+    
     /**
      * 세션에 저장된 내용을 실제로 GitHub에 푸시합니다.
      */
@@ -171,16 +266,44 @@ public class CodeCommentPushService {
             return String.format("성공적으로 %d개 파일에 주석을 적용하고 커밋했습니다. 커밋 SHA: %s", 
                 updatedFiles.size(), newCommitSha.substring(0, 8));
                 
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error in pushSessionComments: {}", e.getMessage(), e);
             throw new RuntimeException("주석 푸시 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
     
+    /**
+     * 주석 적용 및 푸시의 진행 상황을 받는 쪽. 모든 메서드는 작업을 실행하는 스레드에서 호출되며,
+     * 예외를 던지면 (취소 등) 해당 시점에서 작업이 중단됩니다.
+     */
+    public interface ProgressListener {
+        
+        ProgressListener NONE = new ProgressListener() {};
+        
+        default void onFileCount(int fileCount) {}
+        
+        default void onFileProcessed(String filename) {}
+        
+        /**
+         * 커밋 생성 직전에 호출됩니다.
+         */
+        default void onPushing() {}
+    }
+    
     /**
      * 기존 방식 유지 (바로 푸시)
      */
     public String applyCommentsAndPush(String token, String owner, String repo, String sha, String branch) {
+        return applyCommentsAndPush(token, owner, repo, sha, branch, ProgressListener.NONE);
+    }
+    
+    /**
+     * 주석을 적용하고 바로 푸시하면서 파일 단위 진행 상황을 listener에 알립니다.
+     */
+    public String applyCommentsAndPush(String token, String owner, String repo, String sha, String branch,
+                                       ProgressListener listener) {
         try {
             logger.info("Starting direct comment application and push...");
             
@@ -188,36 +311,50 @@ public class CodeCommentPushService {
             GitHubCommitDetail commitDetail = gitHubService.getCommitDetail(token, owner, repo, sha);
             logger.info("Retrieved commit detail: {}", commitDetail.getMessage());
             
-            // 2. 각 파일에 대해 주석 적용
+            // 2. 처리 대상 파일들의 현재 내용을 병렬로 가져오기
+            List<GitHubFile> targetFiles = getProcessableFiles(commitDetail);
+            Map<String, GitHubFile> filesByName = new HashMap<>();
+            List<String> paths = new ArrayList<>(targetFiles.size());
+            for (GitHubFile file : targetFiles) {
+                filesByName.put(file.getFilename(), file);
+                paths.add(file.getFilename());
+            }
+            listener.onFileCount(targetFiles.size());
+            
+            // 3. 조회가 끝난 파일부터 주석 적용
             Map<String, String> updatedFiles = new HashMap<>();
             
-            for (GitHubFile file : commitDetail.getFiles()) {
-                if (shouldProcessFile(file)) {
-                    logger.info("Processing file: {}", file.getFilename());
+            gitHubFileFetcher.fetchEach(token, owner, repo, paths, branch, fetchResult -> {
+                rethrowIfRateLimited(fetchResult);
+                String filename = fetchResult.getFilename();
+                if (fetchResult.isSuccess()) {
+                    logger.info("Processing file: {}", filename);
                     
                     try {
-                        // 현재 파일 내용 가져오기
-                        String currentContent = gitHubService.getFileContent(token, owner, repo, file.getFilename(), branch);
+                        String currentContent = fetchResult.getContent();
                         
                         // 주석 적용
-                        String commentedContent = applyCommentsToFile(currentContent, file, commitDetail);
+                        String commentedContent = applyCommentsToFile(currentContent, filesByName.get(filename), commitDetail);
                         
                         if (commentedContent != null && !commentedContent.equals(currentContent)) {
-                            updatedFiles.put(file.getFilename(), commentedContent);
-                            logger.info("Added comments to: {}", file.getFilename());
+                            updatedFiles.put(filename, commentedContent);
+                            logger.info("Added comments to: {}", filename);
                         }
                     } catch (Exception e) {
-                        logger.warn("Failed to process file {}: {}", file.getFilename(), e.getMessage());
+                        logger.warn("Failed to process file {}: {}", filename, e.getMessage());
                         // 개별 파일 실패는 전체 프로세스를 중단하지 않음
                     }
                 }
-            }
+                listener.onFileProcessed(filename);
+            });
             
             if (updatedFiles.isEmpty()) {
                 return "주석을 추가할 파일이 없습니다.";
             }
             
-            // 3. 모든 변경사항을 한 번에 커밋
+            listener.onPushing();
+            
+            // 4. 모든 변경사항을 한 번에 커밋
             String commitMessage = String.format("docs: Add AI-generated comments for commit %s\n\n%s", 
                 sha.substring(0, 8), commitDetail.getMessage());
             
@@ -229,6 +366,8 @@ public class CodeCommentPushService {
             return String.format("성공적으로 %d개 파일에 주석을 적용하고 커밋했습니다. 커밋 SHA: %s", 
                 updatedFiles.size(), newCommitSha.substring(0, 8));
                 
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error in applyCommentsAndPush: {}", e.getMessage(), e);
             throw new RuntimeException("주석 적용 및 푸시 중 오류가 발생했습니다: " + e.getMessage());
@@ -237,6 +376,41 @@ public class CodeCommentPushService {
     
     // ========== Private Helper Methods ==========
     
+    /**
+     * 요청 한도 초과로 실패한 파일이 있으면 예외를 던집니다.
+     * 남은 파일도 같은 이유로 실패하므로 일부 파일만 처리한 결과를 만들지 않고 전체를 중단합니다.
+     */
+    private static void rethrowIfRateLimited(GitHubFileFetcher.FetchResult fetchResult) {
+        if (fetchResult.getError() instanceof GitHubRateLimitException e) {
+            throw e;
+        }
+    }
+    
+    /**
+     * 커밋에서 주석 처리 대상 파일만 골라냅니다.
+     */
+    private List<GitHubFile> getProcessableFiles(GitHubCommitDetail commitDetail) {
+        List<GitHubFile> targetFiles = new ArrayList<>();
+        for (GitHubFile file : commitDetail.getFiles()) {
+            if (shouldProcessFile(file)) {
+                targetFiles.add(file);
+            }
+        }
+        return targetFiles;
+    }
+    
+    /**
+     * 대상 파일들의 현재 내용을 병렬로 가져옵니다.
+     */
+    private Map<String, GitHubFileFetcher.FetchResult> fetchFileContents(String token, String owner, String repo,
+                                                                         String branch, List<GitHubFile> files) {
+        List<String> paths = new ArrayList<>(files.size());
+        for (GitHubFile file : files) {
+            paths.add(file.getFilename());
+        }
+        return gitHubFileFetcher.fetchAll(token, owner, repo, paths, branch);
+    }
+    
     /**
      * 파일을 처리해야 하는지 판단합니다.
      */
@@ -262,37 +436,91 @@ public class CodeCommentPushService {
                filename.endsWith(".h");
     }
     
+    /**
+     * 파일 하나에 주석을 적용한 미리보기를 만듭니다.
+     */
+    private FileCommentPreview buildFilePreview(GitHubFile file, String currentContent, GitHubCommitDetail commitDetail) {
+        logger.info("Processing file: {}", file.getFilename());
+        FileCommentResult result = applyCommentsToFileWithDetails(currentContent, file, commitDetail);
+        
+        if (result.commentedContent != null && !result.commentedContent.equals(currentContent)) {
+            logger.info("Generated comments for: {}", file.getFilename());
+            return new FileCommentPreview(
+                file.getFilename(),
+                currentContent,
+                result.commentedContent,
+                result.addedComments,
+                true
+            );
+        }
+        return new FileCommentPreview(
+            file.getFilename(),
+            currentContent,
+            currentContent,
+            new ArrayList<>(),
+            false
+        );
+    }
+    
     /**
      * 파일에 주석을 적용하고 상세 정보를 반환합니다.
      */
-    private FileCommentResult applyCommentsToFileWithDetails(String currentContent, GitHubFile file, GitHubCommitDetail commitDetail) {
+    FileCommentResult applyCommentsToFileWithDetails(String currentContent, GitHubFile file, GitHubCommitDetail commitDetail) {
         if (file.getPatch() == null || file.getPatch().isEmpty()) {
             return new FileCommentResult(currentContent, new ArrayList<>());
         }
         
-        String[] contentLines = currentContent.split("\n");
-        StringBuilder commentedContent = new StringBuilder();
+        // 커밋에서 추가/수정된 줄만 주석 대상으로 삼음 (삭제만 있는 파일은 그대로 둠)
+        List<UnifiedDiff.AddedLine> addedLines;
+        try {
+            addedLines = UnifiedDiff.addedLines(UnifiedDiff.parse(file.getPatch()));
+        } catch (IllegalArgumentException e) {
+            // 줄 번호를 믿을 수 없는 patch면 주석을 달지 않음
+            logger.warn("Skipping {}: {}", file.getFilename(), e.getMessage());
+            return new FileCommentResult(currentContent, new ArrayList<>());
+        }
+        if (addedLines.isEmpty()) {
+            return new FileCommentResult(currentContent, new ArrayList<>());
+        }
+        
+        String filename = file.getFilename();
+        CommentRules rules = codeCommentService.rulesFor(filename);
+        StringBuilder commentedContent = new StringBuilder(currentContent.length() + currentContent.length() / 4);
         List<CommentItem> addedComments = new ArrayList<>();
         
-        boolean isJavaFile = file.getFilename().endsWith(".java");
-        String commentPrefix = isJavaFile ? "//" : getCommentPrefix(file.getFilename());
+        boolean isJavaFile = filename.endsWith(".java");
+        String commentPrefix = isJavaFile ? "//" : getCommentPrefix(filename);
+        String commitTypePrefix = getCommitTypePrefix(commitDetail);
         
-        for (int i = 0; i < contentLines.length; i++) {
-            String line = contentLines[i];
-            commentedContent.append(line).append("\n");
+        LineScanner lines = new LineScanner(currentContent);
+        int nextAdded = 0;
+        while (nextAdded < addedLines.size() && lines.next()) {
+            lines.appendTo(commentedContent).append('\n');
+            
+            UnifiedDiff.AddedLine added = addedLines.get(nextAdded);
+            if (lines.lineNumber() < added.getLineNumber()) {
+                continue;
+            }
+            nextAdded++;
+            
+            // 커밋 이후 브랜치가 바뀌어 줄 번호가 어긋났다면 엉뚱한 줄에 주석을 달지 않음
+            if (!lines.contentEquals(added.getText())) {
+                continue;
+            }
             
             // 새로 추가된 메서드나 클래스에 주석 추가
-            if (shouldAddComment(line, file.getFilename())) {
-                String comment = generateContextualComment(line, file.getFilename(), commitDetail);
-                if (comment != null && !comment.isEmpty()) {
-                    String fullComment = getIndentation(line) + commentPrefix + " " + comment;
-                    commentedContent.append(fullComment).append("\n");
-                    
-                    // 추가된 주석 정보 저장
-                    addedComments.add(new CommentItem(i + 1, comment, line.trim()));
-                }
+            String basicComment = rules.commentIfTarget(currentContent, lines.start(), lines.end());
+            if (basicComment != null) {
+                String comment = commitTypePrefix + basicComment;
+                appendIndentation(commentedContent, lines)
+                        .append(commentPrefix).append(' ').append(comment).append('\n');
+                
+                // 추가된 주석 정보 저장
+                addedComments.add(new CommentItem(lines.lineNumber(), comment, lines.line().trim()));
             }
         }
+        // 마지막 추가 줄 이후는 검사 없이 그대로 복사
+        lines.appendRemainingTo(commentedContent);
         
         return new FileCommentResult(commentedContent.toString(), addedComments);
     }
@@ -321,81 +549,36 @@ public class CodeCommentPushService {
     }
     
     /**
-     * 라인에 주석을 추가해야 하는지 판단합니다.
-     */
-    private boolean shouldAddComment(String line, String filename) {
-        String trimmed = line.trim();
-        
-        if (trimmed.isEmpty() || trimmed.startsWith("//") || trimmed.startsWith("/*") || trimmed.startsWith("#")) {
-            return false;
-        }
-        
-        // Java 파일
-        if (filename.endsWith(".java")) {
-            return trimmed.contains("public ") || 
-                   trimmed.contains("private ") || 
-                   trimmed.contains("protected ") ||
-                   trimmed.contains("class ") ||
-                   trimmed.contains("interface ") ||
-                   trimmed.contains("@Override") ||
-                   (trimmed.contains("extends") && trimmed.contains("Repository"));
-        }
-        
-        // JavaScript/TypeScript
-        if (filename.endsWith(".js") || filename.endsWith(".ts") || filename.endsWith(".jsx") || filename.endsWith(".tsx")) {
-            return trimmed.startsWith("function ") ||
-                   trimmed.startsWith("const ") ||
-                   trimmed.startsWith("let ") ||
-                   trimmed.contains("=>") ||
-                   trimmed.contains("useState") ||
-                   trimmed.contains("useEffect");
-        }
-        
-        return false;
-    }
-    
-    /**
-     * 컨텍스트를 고려한 주석을 생성합니다.
+     * 커밋 메시지에서 변경 유형을 추출해 주석 앞에 붙일 접두사를 반환합니다.
      */
-    private String generateContextualComment(String line, String filename, GitHubCommitDetail commitDetail) {
-        String trimmed = line.trim();
-        
-        // 커밋 메시지에서 힌트 추출
+    private String getCommitTypePrefix(GitHubCommitDetail commitDetail) {
         String commitMsg = commitDetail.getMessage().toLowerCase();
         
         if (commitMsg.contains("refactor")) {
-            return "리팩토링: " + generateBasicComment(trimmed, filename);
+            return "리팩토링: ";
         } else if (commitMsg.contains("feat") || commitMsg.contains("add")) {
-            return "새 기능: " + generateBasicComment(trimmed, filename);
+            return "새 기능: ";
         } else if (commitMsg.contains("fix")) {
-            return "버그 수정: " + generateBasicComment(trimmed, filename);
+            return "버그 수정: ";
         } else if (commitMsg.contains("docs")) {
-            return "문서화: " + generateBasicComment(trimmed, filename);
+            return "문서화: ";
         }
         
-        return generateBasicComment(trimmed, filename);
-    }
-    
-    /**
-     * 기본적인 주석을 생성합니다.
-     */
-    private String generateBasicComment(String line, String filename) {
-        return codeCommentService.generateCommentForLine(line, filename);
+        return "";
     }
     
     /**
-     * 라인의 들여쓰기를 가져옵니다.
+     * 현재 라인의 들여쓰기(앞쪽 공백/탭)를 그대로 덧붙입니다.
      */
-    private String getIndentation(String line) {
-        StringBuilder indentation = new StringBuilder();
-        for (char c : line.toCharArray()) {
-            if (c == ' ' || c == '\t') {
-                indentation.append(c);
-            } else {
+    private StringBuilder appendIndentation(StringBuilder out, LineScanner line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != ' ' && c != '\t') {
                 break;
             }
+            out.append(c);
         }
-        return indentation.toString();
+        return out;
     }
     
     // ========== Inner Classes ==========
@@ -403,7 +586,7 @@ public class CodeCommentPushService {
     /**
      * 내부 클래스로 결과 데이터 구조 정의
      */
-    private static class FileCommentResult {
+    static class FileCommentResult {
         public final String commentedContent;
         public final List<CommentItem> addedComments;
         
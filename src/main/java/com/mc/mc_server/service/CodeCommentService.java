@@ -1,15 +1,76 @@
 package com.mc.mc_server.service;
 
+import com.mc.mc_server.service.CommentRules.Condition;
+import com.mc.mc_server.util.LineScanner;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
+
+import static com.mc.mc_server.service.CommentRules.anyOf;
+import static com.mc.mc_server.service.CommentRules.contains;
+import static com.mc.mc_server.service.CommentRules.startsWith;
 
 @Service
 public class CodeCommentService {
     
+    // 이미 주석인 줄은 주석을 만들지 않음
+    private static final Condition ALREADY_COMMENTED = startsWith("//").or(startsWith("/*"));
+    
+    // 커밋 반영 대상 판단 시에는 '#'으로 시작하는 줄도 제외
+    private static final Condition NOT_HASH_LINE = startsWith("#").negate();
+    
+    private static final CommentRules JAVA_RULES = CommentRules.forExtensions(".java")
+            .skip(ALREADY_COMMENTED)
+            .rule(contains("class ").and(contains("{")), "// 새로운 클래스 정의")
+            .rule(anyOf(contains("public "), contains("private "), contains("protected "))
+                    .and(contains("(")).and(contains(")")), "// 메서드 정의")
+            .rule(contains("extends").and(contains("Repository")), "// 레포지토리 인터페이스 확장으로 데이터 액세스 기능 추가")
+            .rule(contains("private final").or(contains("private ")), "// 클래스 멤버 변수 선언")
+            .rule(startsWith("import "), "// 필요한 라이브러리 import")
+            .rule(contains("List<").and(contains("find")), "// 특정 조건으로 리스트 조회 메서드 추가")
+            .otherwise("// 코드 로직 추가")
+            .target(NOT_HASH_LINE.and(anyOf(
+                    contains("public "), contains("private "), contains("protected "),
+                    contains("class "), contains("interface "), contains("@Override"),
+                    contains("extends").and(contains("Repository")))))
+            .build();
+    
+    private static final CommentRules JAVASCRIPT_RULES = CommentRules.forExtensions(".js", ".ts", ".jsx", ".tsx")
+            .skip(ALREADY_COMMENTED)
+            .rule(contains("function ").or(contains("const ").and(contains("=>"))), "// 새로운 함수 정의")
+            .rule(anyOf(contains("const "), contains("let "), contains("var ")), "// 변수 선언")
+            .rule(contains("useState").or(contains("useEffect")), "// React 훅 사용")
+            .rule(anyOf(contains("onClick"), contains("onChange"), contains("onSubmit")), "// 이벤트 핸들러 정의")
+            .otherwise("// JavaScript 로직 추가")
+            .target(NOT_HASH_LINE.and(anyOf(
+                    startsWith("function "), startsWith("const "), startsWith("let "),
+                    contains("=>"), contains("useState"), contains("useEffect"))))
+            .build();
+    
+    private static final CommentRules PYTHON_RULES = CommentRules.forExtensions(".py")
+            .skip(ALREADY_COMMENTED)
+            .rule(startsWith("def "), "# 새로운 함수 정의")
+            .rule(startsWith("class "), "# 새로운 클래스 정의")
+            .rule(startsWith("import ").or(startsWith("from ")), "# 필요한 모듈 import")
+            .otherwise("# Python 로직 추가")
+            .build();
+    
+    private static final CommentRules CSS_RULES = CommentRules.forExtensions(".css", ".scss")
+            .skip(ALREADY_COMMENTED)
+            .rule(startsWith("."), "/* 새로운 CSS 클래스 스타일 */")
+            .rule(startsWith("#"), "/* ID 선택자 스타일 */")
+            .rule(contains(":").and(contains("/*").negate()), "/* 스타일 속성 정의 */")
+            .otherwise("/* CSS 스타일 추가 */")
+            .build();
+    
+    private static final CommentRules GENERIC_RULES = CommentRules.forExtensions()
+            .skip(ALREADY_COMMENTED)
+            .otherwise("// 코드 수정사항")
+            .build();
+    
+    // 파일 확장자 검사 순서
+    private static final List<CommentRules> LANGUAGE_RULES = List.of(JAVA_RULES, JAVASCRIPT_RULES, PYTHON_RULES, CSS_RULES);
+    
     /**
      * 코드 diff를 분석해서 AI 주석을 생성합니다.
      */
@@ -18,25 +79,20 @@ public class CodeCommentService {
             return null;
         }
         
-        StringBuilder commentedCode = new StringBuilder();
-        String[] lines = patch.split("\n");
+        CommentRules rules = rulesFor(filename);
+        StringBuilder commentedCode = new StringBuilder(patch.length() + patch.length() / 4);
+        LineScanner lines = new LineScanner(patch);
         
-        for (String line : lines) {
-            if (line.startsWith("@@")) {
-                // diff 헤더는 그대로 유지
-                commentedCode.append(line).append("\n");
-            } else if (line.startsWith("+") && !line.equals("+")) {
-                // 추가된 코드 라인에 주석 생성
-                String addedLine = line.substring(1); // '+' 제거
-                String comment = generateCommentForLine(addedLine, filename);
-                
-                commentedCode.append(line).append("\n");
+        while (lines.next()) {
+            // diff 헤더와 기존 라인들은 그대로 유지
+            lines.appendTo(commentedCode).append('\n');
+            
+            if (lines.startsWith("+") && lines.length() > 1) {
+                // 추가된 코드 라인에 주석 생성 ('+' 제외)
+                String comment = rules.comment(patch, lines.start() + 1, lines.end());
                 if (comment != null && !comment.isEmpty()) {
-                    commentedCode.append("+ ").append(comment).append("\n");
+                    commentedCode.append("+ ").append(comment).append('\n');
                 }
-            } else {
-                // 기존 라인들은 그대로 유지
-                commentedCode.append(line).append("\n");
             }
         }
         
@@ -45,137 +101,30 @@ public class CodeCommentService {
     
     /**
      * 단일 코드 라인에 대한 주석을 생성합니다.
+     * 이미 주석이거나 빈 라인이면 null을 반환합니다.
      */
     public String generateCommentForLine(String codeLine, String filename) {
-        String trimmed = codeLine.trim();
-        
-        if (trimmed.isEmpty() || trimmed.startsWith("//") || trimmed.startsWith("/*")) {
-            return null; // 이미 주석이거나 빈 라인
-        }
-        
-        // Java 파일 분석
-        if (filename.endsWith(".java")) {
-            return generateJavaComment(trimmed);
-        }
-        
-        // JavaScript/TypeScript 파일 분석
-        if (filename.endsWith(".js") || filename.endsWith(".ts") || filename.endsWith(".jsx") || filename.endsWith(".tsx")) {
-            return generateJavaScriptComment(trimmed);
-        }
-        
-        // Python 파일 분석
-        if (filename.endsWith(".py")) {
-            return generatePythonComment(trimmed);
-        }
-        
-        // CSS 파일 분석
-        if (filename.endsWith(".css") || filename.endsWith(".scss")) {
-            return generateCSSComment(trimmed);
-        }
-        
-        return generateGenericComment(trimmed);
-    }
-    
-    private String generateJavaComment(String codeLine) {
-        // 클래스 선언
-        if (codeLine.contains("class ") && codeLine.contains("{")) {
-            return "// 새로운 클래스 정의";
-        }
-        
-        // 메서드 선언
-        if (codeLine.contains("public ") || codeLine.contains("private ") || codeLine.contains("protected ")) {
-            if (codeLine.contains("(") && codeLine.contains(")")) {
-                return "// 메서드 정의";
-            }
-        }
-        
-        // 인터페이스 확장
-        if (codeLine.contains("extends") && codeLine.contains("Repository")) {
-            return "// 레포지토리 인터페이스 확장으로 데이터 액세스 기능 추가";
-        }
-        
-        // 변수 선언
-        if (codeLine.contains("private final") || codeLine.contains("private ")) {
-            return "// 클래스 멤버 변수 선언";
-        }
-        
-        // Import 문
-        if (codeLine.startsWith("import ")) {
-            return "// 필요한 라이브러리 import";
-        }
-        
-        // List 관련
-        if (codeLine.contains("List<") && codeLine.contains("find")) {
-            return "// 특정 조건으로 리스트 조회 메서드 추가";
-        }
-        
-        return "// 코드 로직 추가";
-    }
-    
-    private String generateJavaScriptComment(String codeLine) {
-        // 함수 선언
-        if (codeLine.contains("function ") || codeLine.contains("const ") && codeLine.contains("=>")) {
-            return "// 새로운 함수 정의";
-        }
-        
-        // 변수 선언
-        if (codeLine.contains("const ") || codeLine.contains("let ") || codeLine.contains("var ")) {
-            return "// 변수 선언";
-        }
-        
-        // React 관련
-        if (codeLine.contains("useState") || codeLine.contains("useEffect")) {
-            return "// React 훅 사용";
-        }
-        
-        // 이벤트 핸들러
-        if (codeLine.contains("onClick") || codeLine.contains("onChange") || codeLine.contains("onSubmit")) {
-            return "// 이벤트 핸들러 정의";
-        }
-        
-        return "// JavaScript 로직 추가";
+        return rulesFor(filename).comment(codeLine);
     }
     
-    private String generatePythonComment(String codeLine) {
-        // 함수 정의
-        if (codeLine.startsWith("def ")) {
-            return "# 새로운 함수 정의";
-        }
-        
-        // 클래스 정의
-        if (codeLine.startsWith("class ")) {
-            return "# 새로운 클래스 정의";
-        }
-        
-        // Import 문
-        if (codeLine.startsWith("import ") || codeLine.startsWith("from ")) {
-            return "# 필요한 모듈 import";
-        }
-        
-        return "# Python 로직 추가";
+    /**
+     * 커밋 반영 시 주석을 달 대상 라인(선언부 등)이면 주석을, 아니면 null을 반환합니다.
+     * 대상 판단과 주석 선택이 같은 키워드 검색 결과를 사용하므로 라인을 한 번만 순회합니다.
+     */
+    public String generateCommentIfTarget(String codeLine, String filename) {
+        return rulesFor(filename).commentIfTarget(codeLine);
     }
     
-    private String generateCSSComment(String codeLine) {
-        // 클래스 선택자
-        if (codeLine.startsWith(".")) {
-            return "/* 새로운 CSS 클래스 스타일 */";
-        }
-        
-        // ID 선택자
-        if (codeLine.startsWith("#")) {
-            return "/* ID 선택자 스타일 */";
-        }
-        
-        // 속성 정의
-        if (codeLine.contains(":") && !codeLine.contains("/*")) {
-            return "/* 스타일 속성 정의 */";
+    /**
+     * 파일 확장자에 맞는 주석 규칙을 반환합니다. 파일 하나를 처리할 때 한 번만 조회하면 됩니다.
+     */
+    public CommentRules rulesFor(String filename) {
+        for (CommentRules rules : LANGUAGE_RULES) {
+            if (rules.appliesTo(filename)) {
+                return rules;
+            }
         }
-        
-        return "/* CSS 스타일 추가 */";
-    }
-    
-    private String generateGenericComment(String codeLine) {
-        return "// 코드 수정사항";
+        return GENERIC_RULES;
     }
     
     /**
@@ -187,20 +136,24 @@ public class CodeCommentService {
         }
         
         // 중복 주석 제거 및 포맷팅
-        String[] lines = commentedCode.split("\n");
-        StringBuilder formatted = new StringBuilder();
-        String lastComment = "";
+        StringBuilder formatted = new StringBuilder(commentedCode.length());
+        LineScanner lines = new LineScanner(commentedCode);
+        int lastCommentStart = -1; // 직전 줄이 주석이 아니면 -1
+        int lastCommentLength = 0;
         
-        for (String line : lines) {
-            if (line.trim().startsWith("//") || line.trim().startsWith("/*") || line.trim().startsWith("#")) {
+        while (lines.next()) {
+            if (lines.startsWithAfterWhitespace("//") || lines.startsWithAfterWhitespace("/*") || lines.startsWithAfterWhitespace("#")) {
                 // 중복 주석 체크
-                if (!line.equals(lastComment)) {
-                    formatted.append(line).append("\n");
-                    lastComment = line;
+                boolean duplicate = lastCommentStart >= 0 && lastCommentLength == lines.length()
+                        && commentedCode.regionMatches(lastCommentStart, commentedCode, lines.start(), lines.length());
+                if (!duplicate) {
+                    lines.appendTo(formatted).append('\n');
+                    lastCommentStart = lines.start();
+                    lastCommentLength = lines.length();
                 }
             } else {
-                formatted.append(line).append("\n");
-                lastComment = "";
+                lines.appendTo(formatted).append('\n');
+                lastCommentStart = -1;
             }
         }
         
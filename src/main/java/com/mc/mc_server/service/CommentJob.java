@@ -0,0 +1,159 @@
+package com.mc.mc_server.service;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * 백그라운드에서 실행되는 주석 작업(미리보기 생성, 주석 적용 및 푸시) 하나의 상태입니다.
+ * 상태 변경은 모두 이 객체의 모니터로 보호되며, 조회 메서드는 어느 스레드에서 호출해도 됩니다.
+ */
+public class CommentJob {
+
+    public enum Type { PREVIEW, APPLY_AND_PUSH }
+
+    public enum Status { QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED }
+
+    private final String id;
+    private final Type type;
+    private final Long userId;
+    private final String owner;
+    private final String repo;
+    private final String sha;
+    private final String branch;
+    private final long createdAt = System.currentTimeMillis();
+
+    private Status status = Status.QUEUED;
+    private String stage = "대기 중";
+    private int totalFiles = -1;
+    private int processedFiles;
+    private long startedAt;
+    private long finishedAt;
+    private Object result;
+    private String error;
+    private long retryAfterSeconds;
+
+    private boolean cancelRequested;
+    private boolean cancellable = true;
+    private Thread runner;
+
+    CommentJob(String id, Type type, Long userId, String owner, String repo, String sha, String branch) {
+        this.id = id;
+        this.type = type;
+        this.userId = userId;
+        this.owner = owner;
+        this.repo = repo;
+        this.sha = sha;
+        this.branch = branch;
+    }
+
+    /**
+     * 작업 스레드에서 실행을 시작합니다. 대기 중에 취소되었으면 false를 반환합니다.
+     */
+    synchronized boolean start(Thread thread) {
+        if (status != Status.QUEUED) {
+            return false;
+        }
+        status = Status.RUNNING;
+        stage = "파일 조회 중";
+        startedAt = System.currentTimeMillis();
+        runner = thread;
+        return true;
+    }
+
+    synchronized void succeed(Object result) {
+        this.result = result;
+        finish(Status.SUCCEEDED, "완료");
+    }
+
+    synchronized void fail(String error) {
+        // 취소 요청으로 중단된 경우 실패가 아니라 취소로 기록
+        this.error = cancelRequested ? "작업이 취소되었습니다." : error;
+        finish(cancelRequested ? Status.CANCELLED : Status.FAILED, cancelRequested ? "취소됨" : "실패");
+    }
+
+    /**
+     * GitHub 요청 한도 초과로 실패했음을 기록합니다. 다시 제출해도 되는 시점을 함께 보관합니다.
+     */
+    synchronized void failRateLimited(GitHubRateLimitException e) {
+        fail(e.getMessage());
+        if (status == Status.FAILED) {
+            retryAfterSeconds = e.getRetryAfterSeconds();
+        }
+    }
+
+    private void finish(Status finalStatus, String finalStage) {
+        status = finalStatus;
+        stage = finalStage;
+        finishedAt = System.currentTimeMillis();
+        runner = null;
+    }
+
+    /**
+     * 취소를 요청합니다. 대기 중이면 바로 취소되고, 실행 중이면 작업 스레드를 인터럽트하여
+     * 다음 파일 처리 시점에 중단됩니다. 이미 끝났거나 푸시를 시작한 작업은 false를 반환합니다.
+     */
+    synchronized boolean cancel() {
+        if (isFinished() || !cancellable) {
+            return false;
+        }
+        cancelRequested = true;
+        if (status == Status.QUEUED) {
+            finish(Status.CANCELLED, "취소됨");
+        } else if (runner != null) {
+            runner.interrupt();
+        }
+        return true;
+    }
+
+    /**
+     * 작업 중간중간 호출하여 취소 요청이 있으면 중단합니다.
+     */
+    void checkCancelled() {
+        synchronized (this) {
+            if (!cancelRequested) {
+                return;
+            }
+        }
+        throw new CancellationException("작업이 취소되었습니다.");
+    }
+
+    synchronized void onFileCount(int totalFiles) {
+        this.totalFiles = totalFiles;
+        this.stage = "주석 생성 중";
+    }
+
+    synchronized void onFileProcessed() {
+        processedFiles++;
+    }
+
+    /**
+     * 커밋 생성 직전에 호출됩니다. 이후로는 GitHub에 반영이 시작되므로 취소할 수 없습니다.
+     */
+    synchronized void enterPush() {
+        checkCancelled();
+        cancellable = false;
+        stage = "GitHub에 푸시 중";
+    }
+
+    public synchronized boolean isFinished() {
+        return status == Status.SUCCEEDED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    public String getId() { return id; }
+    public Type getType() { return type; }
+    public Long getUserId() { return userId; }
+    public String getOwner() { return owner; }
+    public String getRepo() { return repo; }
+    public String getSha() { return sha; }
+    public String getBranch() { return branch; }
+    public long getCreatedAt() { return createdAt; }
+    public synchronized Status getStatus() { return status; }
+    public synchronized String getStage() { return stage; }
+    public synchronized int getTotalFiles() { return totalFiles; }
+    public synchronized int getProcessedFiles() { return processedFiles; }
+    public synchronized long getStartedAt() { return startedAt; }
+    public synchronized long getFinishedAt() { return finishedAt; }
+    public synchronized Object getResult() { return result; }
+    public synchronized String getError() { return error; }
+    public synchronized long getRetryAfterSeconds() { return retryAfterSeconds; }
+    public synchronized boolean isCancellable() { return cancellable && !isFinished(); }
+}
@@ -0,0 +1,11 @@
+package com.mc.mc_server.service;
+
+/**
+ * 사용자별 동시 작업 수 또는 서버 전체 작업 대기열 한도를 넘어 작업을 받을 수 없을 때 발생합니다.
+ */
+public class CommentJobRejectedException extends RuntimeException {
+    
+    public CommentJobRejectedException(String message) {
+        super(message);
+    }
+}
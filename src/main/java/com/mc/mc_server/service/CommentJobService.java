@@ -0,0 +1,345 @@
+package com.mc.mc_server.service;
+
+import com.mc.mc_server.dto.CommentPreviewResponse;
+import com.mc.mc_server.dto.CommentPreviewResponse.FileCommentPreview;
+import com.mc.mc_server.dto.GitHubCommitDetail;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 주석 미리보기 생성과 주석 적용 및 푸시를 요청 스레드 대신 전용 스레드 풀에서 실행합니다.
+ * 제출하면 바로 작업 ID를 돌려주고, 진행 상황과 결과는 작업 ID로 조회합니다.
+ * 서버 전체 동시 실행 수는 스레드 수, 대기 가능한 작업 수는 대기열 크기로 제한하며,
+ * 한 사용자가 풀을 독점하지 않도록 사용자별 진행 중(대기+실행) 작업 수도 제한합니다.
+ * 완료된 작업은 결과(미리보기의 경우 파일 내용 전체)를 보관하므로, 보관 기간과 별도로
+ * 사용자별/전체 보관 개수를 넘으면 가장 먼저 끝난 작업부터 삭제합니다.
+ */
+@Service
+public class CommentJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentJobService.class);
+
+    private final CodeCommentPushService codeCommentPushService;
+    private final GitHubService gitHubService;
+    private final ThreadPoolExecutor executor;
+    private final int perUserLimit;
+    private final long retentionMillis;
+    private final int maxFinishedPerUser;
+    private final int maxFinished;
+
+    private final Map<String, CommentJob> jobs = new ConcurrentHashMap<>();
+    // 사용자별 대기+실행 중인 작업 수 (0이 되면 항목을 지움, 증감은 compute로 원자적으로 처리)
+    private final Map<Long, Integer> activeJobsByUser = new ConcurrentHashMap<>();
+    // 아직 작업 스레드가 가져가지 않은 작업 (대기 중 취소 시 대기열에서 바로 빼기 위함)
+    private final Map<String, Runnable> queuedTasks = new ConcurrentHashMap<>();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejectedPerUser = new AtomicLong();
+    private final AtomicLong rejectedQueueFull = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    @Autowired
+    public CommentJobService(CodeCommentPushService codeCommentPushService, GitHubService gitHubService,
+                             @Value("${comment.job.threads:4}") int threads,
+                             @Value("${comment.job.queue-capacity:32}") int queueCapacity,
+                             @Value("${comment.job.per-user-limit:2}") int perUserLimit,
+                             @Value("${comment.job.retention:10m}") Duration retention,
+                             @Value("${comment.job.max-finished-per-user:5}") int maxFinishedPerUser,
+                             @Value("${comment.job.max-finished:100}") int maxFinished) {
+        this.codeCommentPushService = codeCommentPushService;
+        this.gitHubService = gitHubService;
+        this.perUserLimit = perUserLimit;
+        this.retentionMillis = retention.toMillis();
+        this.maxFinishedPerUser = maxFinishedPerUser;
+        this.maxFinished = maxFinished;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads,
+            60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "comment-job-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            // 요청 스레드에서 실행하면 비동기로 바꾼 의미가 없으므로 거절하고 나중에 다시 요청하도록 함
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 주석 미리보기 생성 작업을 제출합니다. 결과는 {@link CommentPreviewResponse}입니다.
+     */
+    public CommentJob submitPreview(Long userId, String token, String owner, String repo, String sha, String branch) {
+        return submit(CommentJob.Type.PREVIEW, userId, owner, repo, sha, branch,
+            job -> runPreview(job, token, owner, repo, sha, branch));
+    }
+
+    /**
+     * 주석 적용 및 푸시 작업을 제출합니다. 결과는 처리 결과 메시지입니다.
+     */
+    public CommentJob submitApplyAndPush(Long userId, String token, String owner, String repo, String sha, String branch) {
+        return submit(CommentJob.Type.APPLY_AND_PUSH, userId, owner, repo, sha, branch,
+            job -> codeCommentPushService.applyCommentsAndPush(token, owner, repo, sha, branch,
+                new CodeCommentPushService.ProgressListener() {
+                    @Override
+                    public void onFileCount(int fileCount) {
+                        job.checkCancelled();
+                        job.onFileCount(fileCount);
+                    }
+
+                    @Override
+                    public void onFileProcessed(String filename) {
+                        job.onFileProcessed();
+                        job.checkCancelled();
+                    }
+
+                    @Override
+                    public void onPushing() {
+                        job.enterPush();
+                    }
+                }));
+    }
+
+    /**
+     * 사용자의 작업을 조회합니다. 다른 사용자의 작업이거나 보관 기간이 지나 삭제된 작업은 찾을 수 없습니다.
+     */
+    public CommentJob getJob(Long userId, String jobId) {
+        CommentJob job = jobs.get(jobId);
+        if (job == null || !job.getUserId().equals(userId)) {
+            throw new RuntimeException("작업을 찾을 수 없습니다. 작업이 만료되었거나 존재하지 않습니다.");
+        }
+        return job;
+    }
+
+    /**
+     * 사용자의 작업 목록을 최근 제출 순으로 반환합니다.
+     */
+    public List<CommentJob> getJobs(Long userId) {
+        List<CommentJob> result = new ArrayList<>();
+        for (CommentJob job : jobs.values()) {
+            if (job.getUserId().equals(userId)) {
+                result.add(job);
+            }
+        }
+        result.sort(Comparator.comparingLong(CommentJob::getCreatedAt).reversed());
+        return result;
+    }
+
+    /**
+     * 작업 취소를 요청합니다. 이미 끝났거나 푸시를 시작해 취소할 수 없으면 false를 반환합니다.
+     */
+    public boolean cancel(Long userId, String jobId) {
+        CommentJob job = getJob(userId, jobId);
+        boolean cancelled = job.cancel();
+        if (cancelled) {
+            logger.info("Cancel requested for comment job {}", jobId);
+            // 대기 중이던 작업은 대기열에서 빼고 자리를 바로 돌려줌.
+            // 이미 작업 스레드가 가져갔다면 remove가 false이고 run()에서 자리를 돌려줌
+            Runnable task = queuedTasks.remove(jobId);
+            if (task != null && executor.remove(task)) {
+                releaseSlot(userId);
+                evictFinishedOverLimit(userId);
+            }
+        }
+        return cancelled;
+    }
+
+    private CommentJob submit(CommentJob.Type type, Long userId, String owner, String repo, String sha, String branch,
+                              Function<CommentJob, Object> work) {
+        if (!acquireSlot(userId)) {
+            rejectedPerUser.incrementAndGet();
+            throw new CommentJobRejectedException(
+                "진행 중인 작업이 너무 많습니다 (최대 " + perUserLimit + "개). 이전 작업이 끝난 뒤 다시 시도해주세요.");
+        }
+
+        CommentJob job = new CommentJob(UUID.randomUUID().toString(), type, userId, owner, repo, sha, branch);
+        Runnable task = () -> run(job, work);
+        jobs.put(job.getId(), job);
+        queuedTasks.put(job.getId(), task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            queuedTasks.remove(job.getId());
+            jobs.remove(job.getId());
+            releaseSlot(userId);
+            rejectedQueueFull.incrementAndGet();
+            throw new CommentJobRejectedException("처리 대기 중인 작업이 많아 요청을 받을 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        submitted.incrementAndGet();
+        logger.info("Submitted {} job {} for {}/{}@{}", type, job.getId(), owner, repo, sha);
+        return job;
+    }
+
+    private void run(CommentJob job, Function<CommentJob, Object> work) {
+        queuedTasks.remove(job.getId());
+        try {
+            // 대기 중에 취소된 작업은 실행하지 않음
+            if (!job.start(Thread.currentThread())) {
+                return;
+            }
+            long startedAt = System.nanoTime();
+            try {
+                Object result = work.apply(job);
+                job.succeed(result);
+            } catch (GitHubRateLimitException e) {
+                job.failRateLimited(e);
+            } catch (RuntimeException e) {
+                job.fail(e.getMessage());
+            }
+            logger.info("Comment job {} finished as {} in {} ms", job.getId(), job.getStatus(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } finally {
+            releaseSlot(job.getUserId());
+            evictFinishedOverLimit(job.getUserId());
+            // 취소 요청으로 남은 인터럽트 상태가 다음 작업에 영향을 주지 않도록 정리
+            Thread.interrupted();
+        }
+    }
+
+    private boolean acquireSlot(Long userId) {
+        boolean[] acquired = new boolean[1];
+        activeJobsByUser.compute(userId, (key, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= perUserLimit) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private void releaseSlot(Long userId) {
+        activeJobsByUser.computeIfPresent(userId, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * 사용자별, 전체 완료 작업 보관 개수를 넘으면 가장 먼저 끝난 작업부터 삭제합니다.
+     * 보관 중인 작업 수는 이 한도와 진행 중인 작업 수로 제한되므로 전체를 훑어도 비용이 작습니다.
+     */
+    private synchronized void evictFinishedOverLimit(Long userId) {
+        List<CommentJob> userFinished = new ArrayList<>();
+        for (CommentJob job : jobs.values()) {
+            if (job.isFinished() && job.getUserId().equals(userId)) {
+                userFinished.add(job);
+            }
+        }
+        evictOldest(userFinished, maxFinishedPerUser);
+
+        List<CommentJob> finished = new ArrayList<>();
+        for (CommentJob job : jobs.values()) {
+            if (job.isFinished()) {
+                finished.add(job);
+            }
+        }
+        evictOldest(finished, maxFinished);
+    }
+
+    private void evictOldest(List<CommentJob> finished, int limit) {
+        if (finished.size() <= limit) {
+            return;
+        }
+        finished.sort(Comparator.comparingLong(CommentJob::getFinishedAt));
+        for (CommentJob job : finished.subList(0, finished.size() - limit)) {
+            if (jobs.remove(job.getId(), job)) {
+                evicted.incrementAndGet();
+            }
+        }
+    }
+
+    private CommentPreviewResponse runPreview(CommentJob job, String token, String owner, String repo,
+                                              String sha, String branch) {
+        GitHubCommitDetail commitDetail = gitHubService.getCommitDetail(token, owner, repo, sha);
+        job.checkCancelled();
+
+        Map<String, FileCommentPreview> filePreviews = new LinkedHashMap<>();
+        String[] sessionId = new String[1];
+        codeCommentPushService.streamCommentsPreview(token, owner, repo, sha, branch, commitDetail,
+            new CodeCommentPushService.PreviewListener() {
+                @Override
+                public void onSession(String id, int fileCount) {
+                    sessionId[0] = id;
+                    job.onFileCount(fileCount);
+                }
+
+                @Override
+                public void onFile(FileCommentPreview preview) {
+                    filePreviews.put(preview.getFilename(), preview);
+                    job.onFileProcessed();
+                    job.checkCancelled();
+                }
+
+                @Override
+                public void onComplete(long sessionVersion, int modifiedFileCount) {
+                    job.checkCancelled();
+                }
+            });
+
+        return new CommentPreviewResponse(sha, commitDetail.getMessage(), branch, filePreviews, sessionId[0]);
+    }
+
+    /**
+     * 보관 기간이 지난 완료 작업을 삭제합니다 (결과에 파일 내용이 포함되므로 메모리 정리).
+     */
+    @Scheduled(fixedDelayString = "${comment.job.cleanup-interval:60s}")
+    public void cleanupFinishedJobs() {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        int removed = 0;
+        for (CommentJob job : jobs.values()) {
+            if (job.isFinished() && job.getFinishedAt() < cutoff && jobs.remove(job.getId(), job)) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            logger.debug("Removed {} finished comment jobs", removed);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("running", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("perUserLimit", perUserLimit);
+        stats.put("retainedJobs", jobs.size());
+        stats.put("maxFinished", maxFinished);
+        stats.put("maxFinishedPerUser", maxFinishedPerUser);
+        stats.put("evicted", evicted.get());
+        stats.put("activeUsers", activeJobsByUser.size());
+        stats.put("submitted", submitted.get());
+        stats.put("rejectedPerUser", rejectedPerUser.get());
+        stats.put("rejectedQueueFull", rejectedQueueFull.get());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
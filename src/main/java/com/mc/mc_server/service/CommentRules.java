@@ -0,0 +1,235 @@
+package com.mc.mc_server.service;
+
+import com.mc.mc_server.util.KeywordMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 언어의 주석 규칙 표를 컴파일한 결과입니다.
+ * 규칙에 등장하는 모든 키워드를 하나의 {@link KeywordMatcher}로 묶어, 각 줄은 한 번만 순회하고
+ * 이후 조건 평가는 비트 마스크 비교만으로 끝납니다.
+ */
+public final class CommentRules {
+
+    /**
+     * 키워드 포함/시작 여부로 구성된 조건. 규칙 표 작성용이며 {@link Builder#build()} 시점에 컴파일됩니다.
+     */
+    public interface Condition {
+
+        LinePredicate compile(KeywordIndex index);
+
+        default Condition and(Condition other) {
+            return index -> {
+                LinePredicate left = compile(index);
+                LinePredicate right = other.compile(index);
+                return matches -> left.test(matches) && right.test(matches);
+            };
+        }
+
+        default Condition or(Condition other) {
+            return index -> {
+                LinePredicate left = compile(index);
+                LinePredicate right = other.compile(index);
+                return matches -> left.test(matches) || right.test(matches);
+            };
+        }
+
+        default Condition negate() {
+            return index -> {
+                LinePredicate predicate = compile(index);
+                return matches -> !predicate.test(matches);
+            };
+        }
+    }
+
+    public interface LinePredicate {
+        boolean test(KeywordMatcher.Matches matches);
+    }
+
+    /**
+     * 컴파일 중 키워드에 비트 번호를 배정합니다. 같은 키워드는 같은 비트를 공유합니다.
+     */
+    public static final class KeywordIndex {
+        private final Map<String, Integer> bits = new LinkedHashMap<>();
+
+        long bit(String keyword) {
+            return 1L << bits.computeIfAbsent(keyword, k -> bits.size());
+        }
+
+        List<String> keywords() {
+            return new ArrayList<>(bits.keySet());
+        }
+    }
+
+    public static Condition contains(String keyword) {
+        return index -> {
+            long bit = index.bit(keyword);
+            return matches -> matches.contains(bit);
+        };
+    }
+
+    public static Condition startsWith(String keyword) {
+        return index -> {
+            long bit = index.bit(keyword);
+            return matches -> matches.startsWith(bit);
+        };
+    }
+
+    public static Condition anyOf(Condition... conditions) {
+        return Arrays.stream(conditions).reduce(Condition::or).orElse(never());
+    }
+
+    public static Condition never() {
+        return index -> matches -> false;
+    }
+
+    private record Rule(LinePredicate condition, String comment) {}
+
+    private final List<String> extensions;
+    private final KeywordMatcher matcher;
+    private final LinePredicate skip;
+    private final LinePredicate target;
+    private final List<Rule> rules;
+    private final String fallback;
+
+    private CommentRules(List<String> extensions, KeywordMatcher matcher, LinePredicate skip,
+                         LinePredicate target, List<Rule> rules, String fallback) {
+        this.extensions = extensions;
+        this.matcher = matcher;
+        this.skip = skip;
+        this.target = target;
+        this.rules = rules;
+        this.fallback = fallback;
+    }
+
+    public static Builder forExtensions(String... extensions) {
+        return new Builder(List.of(extensions));
+    }
+
+    public boolean appliesTo(String filename) {
+        for (String extension : extensions) {
+            if (filename.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 줄에 맞는 주석을 반환합니다. 빈 줄이거나 skip 조건에 해당하면 null입니다.
+     */
+    public String comment(String line) {
+        return comment(line, 0, line.length());
+    }
+
+    /**
+     * text[begin, end) 구간을 한 줄로 보고 {@link #comment(String)}와 같이 판단합니다.
+     */
+    public String comment(String text, int begin, int end) {
+        KeywordMatcher.Matches matches = scan(text, begin, end);
+        if (matches == null || skip.test(matches)) {
+            return null;
+        }
+        return firstMatchingComment(matches);
+    }
+
+    /**
+     * 주석을 달 대상 줄(target 조건)이면 주석을, 아니면 null을 반환합니다.
+     */
+    public String commentIfTarget(String line) {
+        return commentIfTarget(line, 0, line.length());
+    }
+
+    /**
+     * text[begin, end) 구간을 한 줄로 보고 {@link #commentIfTarget(String)}와 같이 판단합니다.
+     */
+    public String commentIfTarget(String text, int begin, int end) {
+        KeywordMatcher.Matches matches = scan(text, begin, end);
+        if (matches == null || skip.test(matches) || !target.test(matches)) {
+            return null;
+        }
+        return firstMatchingComment(matches);
+    }
+
+    private String firstMatchingComment(KeywordMatcher.Matches matches) {
+        for (Rule rule : rules) {
+            if (rule.condition.test(matches)) {
+                return rule.comment;
+            }
+        }
+        return fallback;
+    }
+
+    // String.trim()과 같은 기준으로 앞뒤 공백을 제외한 구간만 검사 (부분 문자열을 만들지 않음)
+    private KeywordMatcher.Matches scan(String text, int begin, int end) {
+        while (begin < end && text.charAt(begin) <= ' ') {
+            begin++;
+        }
+        while (end > begin && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (begin == end) {
+            return null;
+        }
+        return matcher.match(text, begin, end);
+    }
+
+    public static final class Builder {
+        private final List<String> extensions;
+        private final List<Condition> conditions = new ArrayList<>();
+        private final List<String> comments = new ArrayList<>();
+        private Condition skip = never();
+        private Condition target = never();
+        private String fallback;
+
+        private Builder(List<String> extensions) {
+            this.extensions = extensions;
+        }
+
+        /**
+         * 이 조건에 해당하는 줄은 주석을 만들지 않습니다 (이미 주석인 줄 등).
+         */
+        public Builder skip(Condition condition) {
+            this.skip = condition;
+            return this;
+        }
+
+        /**
+         * 커밋 반영 시 주석을 달 줄의 조건. 지정하지 않으면 대상 줄이 없습니다.
+         */
+        public Builder target(Condition condition) {
+            this.target = condition;
+            return this;
+        }
+
+        /**
+         * 위에서부터 처음 일치하는 규칙의 주석을 사용합니다.
+         */
+        public Builder rule(Condition condition, String comment) {
+            conditions.add(condition);
+            comments.add(comment);
+            return this;
+        }
+
+        public Builder otherwise(String comment) {
+            this.fallback = comment;
+            return this;
+        }
+
+        public CommentRules build() {
+            KeywordIndex index = new KeywordIndex();
+            LinePredicate compiledSkip = skip.compile(index);
+            LinePredicate compiledTarget = target.compile(index);
+            List<Rule> rules = new ArrayList<>(conditions.size());
+            for (int i = 0; i < conditions.size(); i++) {
+                rules.add(new Rule(conditions.get(i).compile(index), comments.get(i)));
+            }
+            return new CommentRules(extensions, new KeywordMatcher(index.keywords()), compiledSkip,
+                                    compiledTarget, List.copyOf(rules), fallback);
+        }
+    }
+}
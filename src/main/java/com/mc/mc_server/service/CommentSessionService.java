@@ -1,17 +1,43 @@
 package com.mc.mc_server.service;
 
 import com.mc.mc_server.dto.CommentPreviewResponse;
+import com.mc.mc_server.dto.PatchSessionRequest;
+import com.mc.mc_server.util.TextCompression;
+import com.mc.mc_server.util.UnifiedDiff;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class CommentSessionService {
     
-    // 임시 세션 저장소 (실제 운영환경에서는 Redis나 데이터베이스 사용 권장)
-    private final Map<String, SessionData> sessions = new ConcurrentHashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(CommentSessionService.class);
+    
+    // 세션 저장소 (comment.session.store 설정에 따라 메모리 또는 데이터베이스)
+    private final CommentSessionStore sessionStore;
+    
+    private final long ttlMillis;
+    
+    @Autowired
+    public CommentSessionService(CommentSessionStore sessionStore,
+                                 @Value("${comment.session.ttl:1h}") Duration ttl) {
+        this.sessionStore = sessionStore;
+        this.ttlMillis = ttl.toMillis();
+    }
     
     public static class SessionData {
         private final String token;
@@ -20,17 +46,96 @@ public class CommentSessionService {
         private final String commitSha;
         private final String branch;
         private final long createdAt;
-        private Map<String, String> updatedFiles;
+        private final long version;
+        // 파일 경로 → UTF-8 내용을 Deflate로 압축한 값 (읽거나 푸시할 때만 해제)
+        private final Map<String, byte[]> compressedFiles;
+        private final long sizeBytes;
         
         public SessionData(String token, String owner, String repo, String commitSha, String branch, 
                           Map<String, String> updatedFiles) {
+            this(token, owner, repo, commitSha, branch, updatedFiles, System.currentTimeMillis(), 1L);
+        }
+        
+        public SessionData(String token, String owner, String repo, String commitSha, String branch, 
+                          Map<String, String> updatedFiles, long createdAt, long version) {
+            this(token, owner, repo, commitSha, branch, compressAll(updatedFiles), createdAt, version);
+        }
+        
+        private SessionData(String token, String owner, String repo, String commitSha, String branch, 
+                           LinkedHashMap<String, byte[]> compressedFiles, long createdAt, long version) {
             this.token = token;
             this.owner = owner;
             this.repo = repo;
             this.commitSha = commitSha;
             this.branch = branch;
-            this.updatedFiles = updatedFiles;
-            this.createdAt = System.currentTimeMillis();
+            this.compressedFiles = Collections.unmodifiableMap(compressedFiles);
+            this.createdAt = createdAt;
+            this.version = version;
+            this.sizeBytes = estimateSize();
+        }
+        
+        /**
+         * 저장소에서 읽은 압축된 파일 내용으로 세션 데이터를 복원합니다. 다시 압축하지 않습니다.
+         */
+        public static SessionData ofCompressedFiles(String token, String owner, String repo, String commitSha, String branch,
+                                                    Map<String, byte[]> compressedFiles, long createdAt, long version) {
+            return new SessionData(token, owner, repo, commitSha, branch, new LinkedHashMap<>(compressedFiles), createdAt, version);
+        }
+        
+        /**
+         * 파일 내용만 바꾼 다음 버전의 세션 데이터를 만듭니다. 생성 시각(만료 기준)은 유지됩니다.
+         */
+        public SessionData withUpdatedFiles(Map<String, String> updatedFiles) {
+            return new SessionData(token, owner, repo, commitSha, branch, compressAll(updatedFiles), createdAt, version + 1);
+        }
+        
+        /**
+         * 주어진 파일만 바꾼 다음 버전의 세션 데이터를 만듭니다. 나머지 파일은 압축된 내용을 그대로 공유합니다.
+         */
+        public SessionData withChangedFiles(Map<String, String> changedFiles) {
+            LinkedHashMap<String, byte[]> files = new LinkedHashMap<>(compressedFiles);
+            changedFiles.forEach((filename, content) -> files.put(filename, TextCompression.compress(content)));
+            return new SessionData(token, owner, repo, commitSha, branch, files, createdAt, version + 1);
+        }
+        
+        private static LinkedHashMap<String, byte[]> compressAll(Map<String, String> files) {
+            LinkedHashMap<String, byte[]> compressed = new LinkedHashMap<>();
+            if (files != null) {
+                files.forEach((filename, content) -> compressed.put(filename, TextCompression.compress(content)));
+            }
+            return compressed;
+        }
+        
+        /**
+         * 힙 사용량 추정치 (압축된 바이트 수 + 문자열/객체 헤더 등 고정값).
+         */
+        private long estimateSize() {
+            long size = 256 + 2L * (length(token) + length(owner) + length(repo) + length(commitSha) + length(branch));
+            for (Map.Entry<String, byte[]> file : compressedFiles.entrySet()) {
+                size += 96 + 2L * length(file.getKey()) + file.getValue().length;
+            }
+            return size;
+        }
+        
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+        
+        /**
+         * 모든 파일의 내용을 압축 해제하여 반환합니다.
+         */
+        public Map<String, String> getUpdatedFiles() {
+            Map<String, String> files = new LinkedHashMap<>();
+            compressedFiles.forEach((filename, content) -> files.put(filename, TextCompression.decompress(content)));
+            return files;
+        }
+        
+        /**
+         * 파일 하나의 내용을 압축 해제하여 반환합니다. 세션에 없는 파일이면 null을 반환합니다.
+         */
+        public String getFileContent(String filename) {
+            byte[] content = compressedFiles.get(filename);
+            return content == null ? null : TextCompression.decompress(content);
         }
         
         // Getters
@@ -40,12 +145,14 @@ public class CommentSessionService {
         public String getCommitSha() { return commitSha; }
         public String getBranch() { return branch; }
         public long getCreatedAt() { return createdAt; }
-        public Map<String, String> getUpdatedFiles() { return updatedFiles; }
+        public long getVersion() { return version; }
+        public Set<String> getFilenames() { return compressedFiles.keySet(); }
         
-        // Setter for updated files
-        public void setUpdatedFiles(Map<String, String> updatedFiles) {
-            this.updatedFiles = updatedFiles;
-        }
+        /**
+         * 파일 경로 → 압축된 내용. 저장소가 그대로 저장할 때 사용하며, 배열 내용을 수정하면 안 됩니다.
+         */
+        public Map<String, byte[]> getCompressedFiles() { return compressedFiles; }
+        public long getSizeBytes() { return sizeBytes; }
     }
     
     /**
@@ -55,10 +162,8 @@ public class CommentSessionService {
                                String branch, Map<String, String> updatedFiles) {
         String sessionId = UUID.randomUUID().toString();
         SessionData sessionData = new SessionData(token, owner, repo, commitSha, branch, updatedFiles);
-        sessions.put(sessionId, sessionData);
-        
-        // 1시간 후 자동 삭제 (메모리 정리)
-        scheduleSessionCleanup(sessionId);
+        // 만료 시각이 지나면 주기적인 정리 작업에서 삭제 (메모리 정리)
+        sessionStore.save(sessionId, sessionData);
         
         return sessionId;
     }
@@ -67,14 +172,14 @@ public class CommentSessionService {
      * 세션 데이터를 조회합니다.
      */
     public SessionData getSession(String sessionId) {
-        SessionData sessionData = sessions.get(sessionId);
+        SessionData sessionData = sessionStore.find(sessionId);
         if (sessionData == null) {
             throw new RuntimeException("세션을 찾을 수 없습니다. 세션이 만료되었거나 존재하지 않습니다.");
         }
         
-        // 1시간 후 만료 체크
-        if (System.currentTimeMillis() - sessionData.getCreatedAt() > 3600000) { // 1시간
-            sessions.remove(sessionId);
+        // 정리 작업 전이라도 만료된 세션은 바로 삭제
+        if (isExpired(sessionData, System.currentTimeMillis())) {
+            sessionStore.delete(sessionId);
             throw new RuntimeException("세션이 만료되었습니다. 다시 미리보기를 생성해주세요.");
         }
         
@@ -82,48 +187,134 @@ public class CommentSessionService {
     }
     
     /**
-     * 세션의 파일 내용을 업데이트합니다.
+     * 세션의 파일 내용을 업데이트합니다. 새 버전을 반환합니다.
      */
-    public void updateSessionFiles(String sessionId, Map<String, String> updatedFiles) {
-        SessionData sessionData = getSession(sessionId);
-        sessionData.setUpdatedFiles(updatedFiles);
+    public long updateSessionFiles(String sessionId, Map<String, String> updatedFiles) {
+        SessionData current = getSession(sessionId);
+        SessionData sessionData = current.withUpdatedFiles(updatedFiles);
+        replace(sessionId, current.getVersion(), sessionData);
+        return sessionData.getVersion();
+    }
+    
+    /**
+     * 변경된 부분(줄 범위 교체 또는 unified diff)만 받아 세션의 파일 내용에 적용합니다.
+     * baseVersion이 현재 세션 버전과 다르면 {@link SessionVersionConflictException}을 던집니다.
+     * 변경 대상 파일만 압축 해제하고 나머지 파일은 압축된 내용을 그대로 공유하며, 새 버전을 반환합니다.
+     */
+    public long patchSessionFiles(String sessionId, long baseVersion, List<PatchSessionRequest.FilePatch> patches) {
+        SessionData current = getSession(sessionId);
+        if (current.getVersion() != baseVersion) {
+            throw new SessionVersionConflictException(current.getVersion());
+        }
+        
+        // 변경 대상 파일만 압축 해제
+        Map<String, String> changedFiles = new LinkedHashMap<>();
+        for (PatchSessionRequest.FilePatch patch : patches) {
+            String content = changedFiles.containsKey(patch.getFilename())
+                ? changedFiles.get(patch.getFilename())
+                : current.getFileContent(patch.getFilename());
+            if (content == null) {
+                throw new RuntimeException("세션에 없는 파일입니다: " + patch.getFilename());
+            }
+            try {
+                changedFiles.put(patch.getFilename(), applyPatch(content, patch));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException(patch.getFilename() + " 변경 적용 실패: " + e.getMessage());
+            }
+        }
+        
+        SessionData sessionData = current.withChangedFiles(changedFiles);
+        replace(sessionId, baseVersion, sessionData);
+        return sessionData.getVersion();
+    }
+    
+    private void replace(String sessionId, long expectedVersion, SessionData sessionData) {
+        if (!sessionStore.replace(sessionId, expectedVersion, sessionData)) {
+            // 조회 이후 다른 요청이 먼저 수정했거나 세션이 삭제된 경우
+            throw new SessionVersionConflictException(getSession(sessionId).getVersion());
+        }
+    }
+    
+    private String applyPatch(String content, PatchSessionRequest.FilePatch patch) {
+        boolean hasEdits = patch.getEdits() != null && !patch.getEdits().isEmpty();
+        boolean hasDiff = patch.getDiff() != null && !patch.getDiff().isBlank();
+        if (hasEdits == hasDiff) {
+            throw new IllegalArgumentException("edits와 diff 중 하나만 지정해야 합니다.");
+        }
+        
+        List<String> lines = Arrays.asList(content.split("\n", -1));
+        List<String> patched = hasDiff
+            ? UnifiedDiff.apply(lines, UnifiedDiff.parse(patch.getDiff()))
+            : applyLineEdits(lines, patch.getEdits());
+        return String.join("\n", patched);
+    }
+    
+    /**
+     * 줄 범위 교체를 적용합니다. 모든 줄 번호는 원본 기준이므로 뒤쪽 변경부터 적용합니다.
+     */
+    private List<String> applyLineEdits(List<String> lines, List<PatchSessionRequest.LineEdit> edits) {
+        List<PatchSessionRequest.LineEdit> sorted = new ArrayList<>(edits);
+        sorted.sort(Comparator.comparingInt(PatchSessionRequest.LineEdit::getStartLine)
+            .thenComparingInt(PatchSessionRequest.LineEdit::getEndLine));
+        
+        int previousEnd = 0;
+        for (PatchSessionRequest.LineEdit edit : sorted) {
+            if (edit.getStartLine() < 1 || edit.getStartLine() > lines.size() + 1
+                    || edit.getEndLine() < edit.getStartLine() - 1 || edit.getEndLine() > lines.size()) {
+                throw new IllegalArgumentException("줄 범위가 올바르지 않습니다: " + edit.getStartLine() + "-" + edit.getEndLine());
+            }
+            if (edit.getStartLine() <= previousEnd) {
+                throw new IllegalArgumentException("겹치는 줄 범위가 있습니다: " + edit.getStartLine() + "-" + edit.getEndLine());
+            }
+            previousEnd = Math.max(previousEnd, edit.getEndLine());
+        }
+        
+        List<String> result = new ArrayList<>(lines);
+        for (int i = sorted.size() - 1; i >= 0; i--) {
+            PatchSessionRequest.LineEdit edit = sorted.get(i);
+            List<String> range = result.subList(edit.getStartLine() - 1, edit.getEndLine());
+            range.clear();
+            if (edit.getLines() != null) {
+                range.addAll(edit.getLines());
+            }
+        }
+        return result;
     }
     
     /**
      * 세션을 삭제합니다.
      */
     public void deleteSession(String sessionId) {
-        sessions.remove(sessionId);
+        sessionStore.delete(sessionId);
     }
     
     /**
      * 만료된 세션들을 정리합니다.
+     * 하나의 스케줄러 스레드에서 주기적으로 실행됩니다.
      */
+    @Scheduled(fixedDelayString = "${comment.session.cleanup-interval:60s}")
     public void cleanupExpiredSessions() {
-        long currentTime = System.currentTimeMillis();
-        sessions.entrySet().removeIf(entry -> 
-            currentTime - entry.getValue().getCreatedAt() > 3600000); // 1시간
+        int removed = sessionStore.deleteCreatedBefore(System.currentTimeMillis() - ttlMillis);
+        if (removed > 0) {
+            logger.debug("Removed {} expired comment sessions", removed);
+        }
     }
     
-    /**
-     * 세션 자동 삭제를 스케줄링합니다.
-     */
-    private void scheduleSessionCleanup(String sessionId) {
-        // 간단한 구현 - 실제로는 스케줄러 사용 권장
-        new Thread(() -> {
-            try {
-                Thread.sleep(3600000); // 1시간 대기
-                sessions.remove(sessionId);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+    private boolean isExpired(SessionData sessionData, long currentTime) {
+        return currentTime - sessionData.getCreatedAt() >= ttlMillis;
     }
     
     /**
      * 현재 세션 수를 반환합니다 (디버깅용).
      */
     public int getSessionCount() {
-        return sessions.size();
+        return ((Number) sessionStore.getStats().get("sessions")).intValue();
+    }
+    
+    /**
+     * 세션 저장소 사용량 통계를 반환합니다.
+     */
+    public Map<String, Object> getStats() {
+        return sessionStore.getStats();
     }
 }
@@ -0,0 +1,32 @@
+package com.mc.mc_server.service;
+
+import java.util.Map;
+
+/**
+ * 주석 미리보기 세션 저장소.
+ * comment.session.store 설정으로 구현을 선택합니다 (memory: 기본값, database: 기존 데이터소스 사용).
+ * 만료 판단은 CommentSessionService가 하며, 저장소는 생성 시각 기준으로 정리만 수행합니다.
+ */
+public interface CommentSessionStore {
+    
+    void save(String sessionId, CommentSessionService.SessionData sessionData);
+    
+    /**
+     * 세션을 조회합니다. 없으면 null을 반환합니다.
+     */
+    CommentSessionService.SessionData find(String sessionId);
+    
+    /**
+     * 세션이 존재하고 현재 버전이 expectedVersion일 때만 내용을 교체합니다.
+     */
+    boolean replace(String sessionId, long expectedVersion, CommentSessionService.SessionData sessionData);
+    
+    void delete(String sessionId);
+    
+    /**
+     * 주어진 시각 이전(포함)에 생성된 세션을 삭제하고 삭제한 개수를 반환합니다.
+     */
+    int deleteCreatedBefore(long cutoffMillis);
+    
+    Map<String, Object> getStats();
+}
@@ -0,0 +1,153 @@
+package com.mc.mc_server.service;
+
+import com.mc.mc_server.entity.CommentSession;
+import com.mc.mc_server.repository.CommentSessionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 기존 데이터소스(H2/PostgreSQL)에 세션을 저장합니다.
+ * 재시작 후에도 세션이 유지되고, 로드밸런서 뒤의 어느 인스턴스에서든 같은 세션을 수정하거나 푸시할 수 있습니다.
+ * 파일 내용은 {@link CommentSessionService.SessionData}가 파일별로 압축해 둔 바이트를 그대로 이어 붙여 저장합니다.
+ * 저장/조회 시 다시 압축하거나 압축을 풀지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "comment.session.store", havingValue = "database")
+public class DatabaseCommentSessionStore implements CommentSessionStore {
+    
+    // files 컬럼 형식: [형식 버전][파일 수] 다음에 파일마다 [경로 길이][UTF-8 경로][압축 길이][압축된 내용]
+    private static final byte FORMAT_VERSION = 1;
+    
+    private final CommentSessionRepository commentSessionRepository;
+    
+    @Autowired
+    public DatabaseCommentSessionStore(CommentSessionRepository commentSessionRepository) {
+        this.commentSessionRepository = commentSessionRepository;
+    }
+    
+    @Override
+    @Transactional
+    public void save(String sessionId, CommentSessionService.SessionData sessionData) {
+        commentSessionRepository.save(new CommentSession(
+            sessionId,
+            sessionData.getToken(),
+            sessionData.getOwner(),
+            sessionData.getRepo(),
+            sessionData.getCommitSha(),
+            sessionData.getBranch(),
+            sessionData.getCreatedAt(),
+            sessionData.getVersion(),
+            writeFiles(sessionData.getCompressedFiles())
+        ));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CommentSessionService.SessionData find(String sessionId) {
+        return commentSessionRepository.findById(sessionId)
+            .map(session -> CommentSessionService.SessionData.ofCompressedFiles(
+                session.getGithubToken(),
+                session.getOwner(),
+                session.getRepo(),
+                session.getCommitSha(),
+                session.getBranch(),
+                readFiles(session.getFiles()),
+                session.getCreatedAt(),
+                session.getVersion()
+            ))
+            .orElse(null);
+    }
+    
+    @Override
+    @Transactional
+    public boolean replace(String sessionId, long expectedVersion, CommentSessionService.SessionData sessionData) {
+        return commentSessionRepository.updateFiles(
+            sessionId, expectedVersion, sessionData.getVersion(), writeFiles(sessionData.getCompressedFiles())) > 0;
+    }
+    
+    @Override
+    @Transactional
+    public void delete(String sessionId) {
+        if (commentSessionRepository.existsById(sessionId)) {
+            commentSessionRepository.deleteById(sessionId);
+        }
+    }
+    
+    @Override
+    @Transactional
+    public int deleteCreatedBefore(long cutoffMillis) {
+        return commentSessionRepository.deleteCreatedBefore(cutoffMillis);
+    }
+    
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("store", "database");
+        stats.put("sessions", commentSessionRepository.count());
+        return stats;
+    }
+    
+    private static byte[] writeFiles(Map<String, byte[]> files) {
+        int size = 5;
+        for (Map.Entry<String, byte[]> file : files.entrySet()) {
+            size += 8 + 3 * file.getKey().length() + file.getValue().length;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(files.size());
+            for (Map.Entry<String, byte[]> file : files.entrySet()) {
+                byte[] filename = file.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(filename.length);
+                out.write(filename);
+                out.writeInt(file.getValue().length);
+                out.write(file.getValue());
+            }
+        } catch (IOException e) {
+            // 메모리 스트림에서는 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+    
+    private static Map<String, byte[]> readFiles(byte[] files) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(files))) {
+            byte format = in.readByte();
+            if (format != FORMAT_VERSION) {
+                throw new RuntimeException("세션 파일 내용을 읽을 수 없습니다: 지원하지 않는 형식 " + format);
+            }
+            int count = in.readInt();
+            Map<String, byte[]> result = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String filename = new String(readBlock(in, files.length), StandardCharsets.UTF_8);
+                result.put(filename, readBlock(in, files.length));
+            }
+            return result;
+        } catch (IOException e) {
+            throw new RuntimeException("세션 파일 내용을 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+    
+    private static byte[] readBlock(DataInputStream in, int limit) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > limit) {
+            throw new IOException("잘못된 길이 " + length);
+        }
+        byte[] block = new byte[length];
+        in.readFully(block);
+        return block;
+    }
+}
@@ -0,0 +1,259 @@
+package com.mc.mc_server.service;
+
+import com.mc.mc_server.util.LruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Git blob SHA로 식별되는 파일 내용 캐시입니다.
+ * blob 내용은 SHA가 같으면 절대 바뀌지 않으므로 만료 없이 용량 기준으로만 제거합니다.
+ * 힙 LRU 계층과 선택적인 디스크 계층으로 구성됩니다.
+ * 디스크 계층은 읽을 때마다 파일 수정 시각을 갱신하고, 용량을 넘으면 수정 시각이 오래된 파일부터 삭제합니다.
+ */
+@Service
+public class GitHubBlobCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubBlobCache.class);
+
+    private static final String TEMP_PREFIX = "blob";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    // 쓰기마다 디렉터리를 훑지 않도록 용량을 넘으면 최대 용량의 90%까지 한 번에 비움
+    private static final double EVICTION_LOW_WATER_MARK = 0.9;
+
+    private final LruCache<String, String> heapCache;
+    private final boolean diskEnabled;
+    private final Path diskDirectory;
+    private final long maxDiskBytes;
+    private final AtomicLong diskBytes = new AtomicLong();
+    private final Object evictionLock = new Object();
+
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong diskEvictions = new AtomicLong();
+
+    public GitHubBlobCache(@Value("${github.cache.blob.max-heap-bytes:67108864}") long maxHeapBytes,
+                           @Value("${github.cache.blob.disk.enabled:false}") boolean diskEnabled,
+                           @Value("${github.cache.blob.disk.directory:./data/blob-cache}") String diskDirectory,
+                           @Value("${github.cache.blob.disk.max-bytes:1073741824}") long maxDiskBytes) {
+        // Java 문자열은 최대 문자당 2바이트를 사용하므로 보수적으로 계산
+        this.heapCache = new LruCache<>(maxHeapBytes, content -> 2L * content.length());
+        this.diskEnabled = diskEnabled;
+        this.diskDirectory = Paths.get(diskDirectory);
+        this.maxDiskBytes = maxDiskBytes;
+
+        if (diskEnabled) {
+            initializeDiskTier();
+        }
+    }
+
+    /**
+     * 캐시된 blob 내용을 조회합니다. 없으면 null을 반환합니다.
+     */
+    public String get(String owner, String repo, String blobSha) {
+        String key = cacheKey(owner, repo, blobSha);
+        String content = heapCache.get(key);
+        if (content != null) {
+            return content;
+        }
+
+        if (diskEnabled) {
+            content = readFromDisk(key);
+            if (content != null) {
+                diskHits.incrementAndGet();
+                heapCache.put(key, content);
+                return content;
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * blob 내용을 캐시에 저장합니다.
+     */
+    public void put(String owner, String repo, String blobSha, String content) {
+        String key = cacheKey(owner, repo, blobSha);
+        heapCache.put(key, content);
+        if (diskEnabled) {
+            writeToDisk(key, content);
+        }
+    }
+
+    /**
+     * 캐시 적중/미스 통계를 반환합니다.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("heapHits", heapCache.getHits());
+        stats.put("diskHits", diskHits.get());
+        stats.put("misses", misses.get());
+        stats.put("heapEntries", heapCache.size());
+        stats.put("heapBytes", heapCache.getWeight());
+        stats.put("heapMaxBytes", heapCache.getMaxWeight());
+        stats.put("heapEvictions", heapCache.getEvictions());
+        stats.put("diskEnabled", diskEnabled);
+        stats.put("diskBytes", diskBytes.get());
+        stats.put("diskMaxBytes", maxDiskBytes);
+        stats.put("diskEvictions", diskEvictions.get());
+        return stats;
+    }
+
+    // ========== Disk Tier ==========
+
+    private void initializeDiskTier() {
+        try {
+            Files.createDirectories(diskDirectory);
+            // 이전 실행에서 이동하지 못하고 남은 임시 파일 정리
+            try (Stream<Path> files = Files.list(diskDirectory)) {
+                files.filter(GitHubBlobCache::isTempFile).forEach(this::deleteQuietly);
+            }
+            rescanDiskTier();
+        } catch (IOException e) {
+            logger.warn("Failed to initialize blob disk cache at {}: {}", diskDirectory, e.getMessage());
+        }
+    }
+
+    private String readFromDisk(String key) {
+        Path file = diskDirectory.resolve(fileName(key));
+        try {
+            String content = Files.readString(file);
+            // 최근에 읽은 파일이 나중에 삭제되도록 수정 시각 갱신
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return content;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Failed to read cached blob {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > maxDiskBytes * EVICTION_LOW_WATER_MARK) {
+            // 다른 파일을 모두 지워도 들어가지 않는 blob은 힙 계층에만 보관
+            return;
+        }
+
+        Path file = diskDirectory.resolve(fileName(key));
+        if (Files.exists(file)) {
+            return;
+        }
+        try {
+            Path temp = Files.createTempFile(diskDirectory, TEMP_PREFIX, TEMP_SUFFIX);
+            Files.write(temp, bytes);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            if (diskBytes.addAndGet(bytes.length) > maxDiskBytes) {
+                evictDiskOverLimit();
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write cached blob {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void evictDiskOverLimit() {
+        synchronized (evictionLock) {
+            // 동시에 용량을 넘긴 다른 쓰기가 이미 정리했으면 다시 훑지 않음
+            if (diskBytes.get() > maxDiskBytes) {
+                rescanDiskTier();
+            }
+        }
+    }
+
+    /**
+     * 디렉터리의 실제 파일 크기로 사용량을 다시 계산하고, 최대 용량을 넘으면 수정 시각이 오래된 파일부터 삭제합니다.
+     * 동시 쓰기로 어긋난 사용량도 이때 바로잡힙니다.
+     */
+    private void rescanDiskTier() {
+        synchronized (evictionLock) {
+            List<CachedFile> files = new ArrayList<>();
+            long total = 0;
+            try (Stream<Path> paths = Files.list(diskDirectory)) {
+                for (Path path : (Iterable<Path>) paths::iterator) {
+                    if (isTempFile(path)) {
+                        continue;
+                    }
+                    try {
+                        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        files.add(new CachedFile(path, attributes.size(), attributes.lastModifiedTime()));
+                        total += attributes.size();
+                    } catch (IOException e) {
+                        // 그 사이 삭제된 파일
+                    }
+                }
+            } catch (IOException e) {
+                logger.warn("Failed to list blob disk cache at {}: {}", diskDirectory, e.getMessage());
+                return;
+            }
+
+            if (total > maxDiskBytes) {
+                long target = (long) (maxDiskBytes * EVICTION_LOW_WATER_MARK);
+                files.sort(Comparator.comparing(CachedFile::lastModified));
+                for (CachedFile file : files) {
+                    if (total <= target) {
+                        break;
+                    }
+                    if (deleteQuietly(file.path())) {
+                        total -= file.size();
+                        diskEvictions.incrementAndGet();
+                    }
+                }
+            }
+            diskBytes.set(total);
+        }
+    }
+
+    private record CachedFile(Path path, long size, FileTime lastModified) {}
+
+    private boolean deleteQuietly(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete cached blob {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isTempFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(TEMP_PREFIX) && name.endsWith(TEMP_SUFFIX);
+    }
+
+    private static String cacheKey(String owner, String repo, String blobSha) {
+        // 다른 레포지토리의 내용이 섞이지 않도록 레포지토리 단위로 구분
+        return owner + "/" + repo + "@" + blobSha;
+    }
+
+    private static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
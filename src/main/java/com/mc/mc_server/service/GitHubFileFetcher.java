@@ -0,0 +1,423 @@
+package com.mc.mc_server.service;
+
+import com.mc.mc_server.util.TokenFingerprint;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 커밋에 포함된 여러 파일의 내용을 제한된 동시성으로 병렬 조회합니다.
+ */
+@Service
+public class GitHubFileFetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubFileFetcher.class);
+
+    private final GitHubService gitHubService;
+    private final ThreadPoolExecutor executor;
+    private final int perTokenConcurrency;
+
+    // 토큰 지문별 동시 요청 수 제한 (한 사용자가 풀 전체를 점유하지 않도록)
+    // 사용 중인 호출과 진행 중인 요청이 모두 끝나면 항목을 지우므로 토큰이 바뀌어도 쌓이지 않음
+    private final Map<String, TokenPermits> tokenPermits = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GitHubFileFetcher(GitHubService gitHubService,
+                             @Value("${github.fetch.pool-size:16}") int poolSize,
+                             @Value("${github.fetch.queue-capacity:256}") int queueCapacity,
+                             @Value("${github.fetch.per-token-concurrency:6}") int perTokenConcurrency) {
+        this.gitHubService = gitHubService;
+        this.perTokenConcurrency = perTokenConcurrency;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize,
+            60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "github-fetch-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            // 큐가 가득 차면 호출 스레드에서 직접 실행하여 자연스럽게 속도를 늦춤
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 토큰 하나의 동시 요청 허가. callers는 tokenPermits.compute 안에서만 변경됩니다.
+     */
+    private static class TokenPermits {
+        final Semaphore semaphore;
+        int callers;
+
+        TokenPermits(int permits) {
+            this.semaphore = new Semaphore(permits);
+        }
+    }
+
+    /**
+     * 파일 조회 결과 (성공 시 내용, 실패 시 예외와 소요 시간).
+     */
+    public static class FetchResult {
+        private final String filename;
+        private final String content;
+        private final Exception error;
+        private final long elapsedMillis;
+
+        private FetchResult(String filename, String content, Exception error, long elapsedMillis) {
+            this.filename = filename;
+            this.content = content;
+            this.error = error;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public String getFilename() { return filename; }
+        public String getContent() { return content; }
+        public Exception getError() { return error; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        public boolean isSuccess() { return error == null; }
+    }
+
+    /**
+     * 주어진 파일들의 내용을 병렬로 조회합니다.
+     * 트리를 한 번 조회해 경로를 blob SHA로 바꾼 뒤 같은 blob은 한 번만 가져오며,
+     * 트리에 없는 경로는 Contents API로 개별 조회합니다.
+     * 개별 파일 실패는 전체를 중단하지 않고 실패 결과로 반환되며, 결과는 요청한 순서를 유지합니다.
+     * 요청 한도 초과로 트리를 조회하지 못하면 {@link GitHubRateLimitException}을 던집니다.
+     */
+    public Map<String, FetchResult> fetchAll(String token, String owner, String repo,
+                                             List<String> paths, String branch) {
+        long startedAt = System.nanoTime();
+        String tokenKey = TokenFingerprint.of(token);
+        Semaphore permits = retainPermits(tokenKey);
+        List<FetchTask> tasks;
+
+        // blob 단위로 병렬 조회
+        List<FetchFuture> futures = new ArrayList<>();
+        Map<String, FetchResult> byPath = new HashMap<>();
+        FetchResult slowest = null;
+        try {
+            tasks = planTasks(token, owner, repo, paths, branch);
+            for (FetchTask task : tasks) {
+                permits.acquire();
+                futures.add(start(tokenKey, permits, task, null));
+            }
+            for (FetchFuture future : futures) {
+                for (FetchResult result : future.results()) {
+                    byPath.put(result.getFilename(), result);
+                    if (slowest == null || result.getElapsedMillis() > slowest.getElapsedMillis()) {
+                        slowest = result;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new RuntimeException("파일 내용 조회가 중단되었습니다.");
+        } finally {
+            releasePermits(tokenKey);
+        }
+
+        Map<String, FetchResult> results = new LinkedHashMap<>();
+        for (String path : paths) {
+            results.put(path, byPath.get(path));
+        }
+
+        if (slowest != null) {
+            long fallbacks = tasks.stream().filter(task -> task.fallback).count();
+            logger.info("Fetched {} files ({} blobs, {} fallbacks) from {}/{} in {} ms (slowest: {} {} ms)",
+                results.size(), tasks.size() - fallbacks, fallbacks, owner, repo,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+                slowest.getFilename(), slowest.getElapsedMillis());
+        }
+        return results;
+    }
+
+    /**
+     * fetchAll과 같은 방식으로 조회하되, 파일이 조회되는 대로 완료 순서에 따라 onResult를 호출합니다.
+     * onResult는 호출 스레드에서만 실행되므로 응답 스트림에 바로 써도 됩니다.
+     * 동시 요청 한도에 걸려 다음 요청을 보내지 못하는 동안에도 이미 끝난 결과를 먼저 전달합니다.
+     */
+    public void fetchEach(String token, String owner, String repo, List<String> paths, String branch,
+                          Consumer<FetchResult> onResult) {
+        String tokenKey = TokenFingerprint.of(token);
+        Semaphore permits = retainPermits(tokenKey);
+        BlockingQueue<List<FetchResult>> completed = new LinkedBlockingQueue<>();
+        List<FetchFuture> futures = new ArrayList<>();
+        int pending = 0;
+
+        try {
+            List<FetchTask> tasks = planTasks(token, owner, repo, paths, branch);
+            for (FetchTask task : tasks) {
+                boolean acquired = permits.tryAcquire();
+                while (!acquired) {
+                    if (pending == 0) {
+                        permits.acquire();
+                        acquired = true;
+                    } else {
+                        completed.take().forEach(onResult);
+                        pending--;
+                        acquired = permits.tryAcquire();
+                    }
+                }
+                futures.add(start(tokenKey, permits, task, completed));
+                pending++;
+            }
+            while (pending > 0) {
+                completed.take().forEach(onResult);
+                pending--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new RuntimeException("파일 내용 조회가 중단되었습니다.");
+        } catch (RuntimeException e) {
+            // onResult 실패 (클라이언트 연결 종료 등) 시 대기 중인 조회는 실행하지 않고, 실행 중인 조회는 인터럽트
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        } finally {
+            releasePermits(tokenKey);
+        }
+    }
+
+    private Semaphore retainPermits(String tokenKey) {
+        return tokenPermits.compute(tokenKey, (key, entry) -> {
+            TokenPermits permits = entry == null ? new TokenPermits(perTokenConcurrency) : entry;
+            permits.callers++;
+            return permits;
+        }).semaphore;
+    }
+
+    private void releasePermits(String tokenKey) {
+        tokenPermits.computeIfPresent(tokenKey, (key, entry) -> {
+            entry.callers--;
+            return isIdle(entry) ? null : entry;
+        });
+    }
+
+    // 호출이 끝난 뒤에도 진행 중이던 요청이 마지막 허가를 반환할 때 항목을 지움
+    private void removeIfIdle(String tokenKey) {
+        tokenPermits.computeIfPresent(tokenKey, (key, entry) -> isIdle(entry) ? null : entry);
+    }
+
+    private boolean isIdle(TokenPermits entry) {
+        return entry.callers == 0 && entry.semaphore.availablePermits() == perTokenConcurrency;
+    }
+
+    /**
+     * 한 번의 GitHub 요청으로 조회할 경로들 (같은 blob을 공유하는 경로 묶음 또는 Contents API 개별 조회).
+     */
+    private static class FetchTask {
+        private final List<String> paths;
+        private final boolean fallback;
+        private final Supplier<List<FetchResult>> fetch;
+
+        FetchTask(List<String> paths, boolean fallback, Supplier<List<FetchResult>> fetch) {
+            this.paths = paths;
+            this.fallback = fallback;
+            this.fetch = fetch;
+        }
+
+        List<FetchResult> failed(Throwable throwable) {
+            Exception error = throwable instanceof Exception exception ? exception : new RuntimeException(throwable);
+            List<FetchResult> results = new ArrayList<>(paths.size());
+            for (String path : paths) {
+                results.add(new FetchResult(path, null, error, 0));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * 트리를 한 번 조회해 경로를 blob SHA 기준으로 묶습니다 (동일한 내용의 파일은 한 번만 조회).
+     */
+    private List<FetchTask> planTasks(String token, String owner, String repo, List<String> paths, String branch) {
+        Map<String, String> blobShas = resolveBlobShas(token, owner, repo, branch);
+        Map<String, List<String>> pathsByBlob = new LinkedHashMap<>();
+        List<String> fallbackPaths = new ArrayList<>();
+        for (String path : paths) {
+            String blobSha = blobShas.get(path);
+            if (blobSha != null) {
+                pathsByBlob.computeIfAbsent(blobSha, key -> new ArrayList<>()).add(path);
+            } else {
+                fallbackPaths.add(path);
+            }
+        }
+
+        List<FetchTask> tasks = new ArrayList<>(pathsByBlob.size() + fallbackPaths.size());
+        for (Map.Entry<String, List<String>> entry : pathsByBlob.entrySet()) {
+            tasks.add(new FetchTask(entry.getValue(), false, () -> fetchBlob(token, owner, repo, entry.getKey(), entry.getValue())));
+        }
+        for (String path : fallbackPaths) {
+            tasks.add(new FetchTask(List.of(path), true, () -> List.of(fetchOne(token, owner, repo, path, branch))));
+        }
+        return tasks;
+    }
+
+    // 호출 전에 permits를 하나 획득해 두어야 하며, 작업이 실제로 끝나면 반환됩니다.
+    // completed가 있으면 취소되지 않고 끝난 작업의 결과를 넣습니다.
+    private FetchFuture start(String tokenKey, Semaphore permits, FetchTask task,
+                              BlockingQueue<List<FetchResult>> completed) {
+        AtomicBoolean released = new AtomicBoolean();
+        FetchFuture future = new FetchFuture(task, () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+                removeIfIdle(tokenKey);
+            }
+        }, completed);
+        executor.execute(future);
+        return future;
+    }
+
+    /**
+     * 조회 작업 하나의 Future. cancel(true)는 실행 중인 스레드를 인터럽트합니다.
+     * 인터럽트에 반응하지 않는 소켓 읽기는 타임아웃까지 계속될 수 있으므로,
+     * 허가는 취소 시점이 아니라 작업이 실제로 끝날 때 반환합니다 (시작 전에 취소되면 취소 시점에 반환).
+     * 결과를 completed에 넣기 전에 반환하므로, 결과를 받은 호출자는 바로 다음 허가를 얻을 수 있습니다.
+     */
+    private static final class FetchFuture extends FutureTask<List<FetchResult>> {
+        private final FetchTask task;
+        private final Runnable release;  // 여러 번 호출해도 한 번만 반환
+        private final BlockingQueue<List<FetchResult>> completed;
+        // 허가 반환 책임: 실행을 시작한 쪽 또는 시작 전 취소한 쪽 중 먼저 가져간 쪽
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        FetchFuture(FetchTask task, Runnable release, BlockingQueue<List<FetchResult>> completed) {
+            super(() -> {
+                try {
+                    return task.fetch.get();
+                } finally {
+                    release.run();
+                }
+            });
+            this.task = task;
+            this.release = release;
+            this.completed = completed;
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                // 시작 전에 취소되어 이미 허가를 반환함
+                return;
+            }
+            try {
+                super.run();
+            } finally {
+                // 실행 직전에 취소되어 조회를 건너뛴 경우
+                release.run();
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                if (claimed.compareAndSet(false, true)) {
+                    release.run();
+                }
+            } else if (completed != null) {
+                completed.add(resultsOfDone());
+            }
+        }
+
+        /**
+         * 작업이 끝날 때까지 기다려 결과를 반환합니다. 작업이 예외로 끝났으면 실패 결과를 반환합니다.
+         */
+        List<FetchResult> results() throws InterruptedException {
+            try {
+                return get();
+            } catch (ExecutionException e) {
+                return task.failed(e.getCause());
+            }
+        }
+
+        private List<FetchResult> resultsOfDone() {
+            try {
+                return results();
+            } catch (InterruptedException e) {
+                // 이미 끝난 작업의 get()은 기다리지 않음
+                Thread.currentThread().interrupt();
+                return task.failed(e);
+            }
+        }
+    }
+
+    private Map<String, String> resolveBlobShas(String token, String owner, String repo, String branch) {
+        try {
+            return gitHubService.getTreeBlobShas(token, owner, repo, branch);
+        } catch (GitHubRateLimitException e) {
+            // 파일별 조회로 넘어가도 같은 이유로 실패하므로 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            // 트리 조회 실패 시 모든 파일을 Contents API로 개별 조회
+            logger.warn("Failed to resolve tree for {}/{}@{}: {}", owner, repo, branch, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private List<FetchResult> fetchBlob(String token, String owner, String repo, String blobSha, List<String> paths) {
+        long startedAt = System.nanoTime();
+        String content = null;
+        Exception error = null;
+        try {
+            content = gitHubService.getBlobContent(token, owner, repo, blobSha);
+        } catch (Exception e) {
+            error = e;
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        List<FetchResult> results = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            if (error == null) {
+                logger.debug("Fetched file {} (blob {}) in {} ms", path, blobSha, elapsed);
+            } else {
+                logger.warn("Failed to fetch file {} (blob {}) after {} ms: {}", path, blobSha, elapsed, error.getMessage());
+            }
+            results.add(new FetchResult(path, content, error, elapsed));
+        }
+        return results;
+    }
+
+    private FetchResult fetchOne(String token, String owner, String repo, String path, String branch) {
+        long startedAt = System.nanoTime();
+        try {
+            String content = gitHubService.getFileContent(token, owner, repo, path, branch);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            logger.debug("Fetched file {} in {} ms", path, elapsed);
+            return new FetchResult(path, content, null, elapsed);
+        } catch (Exception e) {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            logger.warn("Failed to fetch file {} after {} ms: {}", path, elapsed, e.getMessage());
+            return new FetchResult(path, null, e, elapsed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
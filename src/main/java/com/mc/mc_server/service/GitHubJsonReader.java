@@ -0,0 +1,305 @@
+package com.mc.mc_server.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mc.mc_server.dto.GitHubCommit;
+import com.mc.mc_server.dto.GitHubCommitDetail;
+import com.mc.mc_server.dto.GitHubFile;
+import com.mc.mc_server.dto.GitHubRepository;
+import com.mc.mc_server.dto.GitHubUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GitHub API 응답을 스트리밍 방식으로 읽어 바로 DTO를 채웁니다.
+ * 응답 전체를 문자열이나 JsonNode 트리로 만들지 않고, 사용하지 않는 필드는 건너뜁니다.
+ */
+@Component
+public class GitHubJsonReader {
+
+    private final JsonFactory jsonFactory;
+
+    @Autowired
+    public GitHubJsonReader(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 트리 조회 결과 (경로별 blob SHA와 잘림 여부).
+     * 응답 캐시에 보관되어 여러 요청이 공유하므로 blob SHA 맵은 읽기 전용입니다.
+     */
+    public static class TreeListing {
+        private final Map<String, String> blobShas;
+        private final boolean truncated;
+
+        public TreeListing(Map<String, String> blobShas, boolean truncated) {
+            this.blobShas = Collections.unmodifiableMap(blobShas);
+            this.truncated = truncated;
+        }
+
+        public Map<String, String> getBlobShas() { return blobShas; }
+        public boolean isTruncated() { return truncated; }
+    }
+
+    // ========== Public Readers ==========
+
+    public GitHubUser readUser(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            GitHubUser user = new GitHubUser();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "id" -> user.setId(parser.getValueAsLong());
+                    case "login" -> user.setLogin(parser.getValueAsString());
+                    case "name" -> user.setName(parser.getValueAsString());
+                    case "email" -> user.setEmail(parser.getValueAsString());
+                    case "avatar_url" -> user.setAvatarUrl(parser.getValueAsString());
+                    case "bio" -> user.setBio(parser.getValueAsString());
+                    case "company" -> user.setCompany(parser.getValueAsString());
+                    case "location" -> user.setLocation(parser.getValueAsString());
+                    case "blog" -> user.setBlog(parser.getValueAsString());
+                    case "public_repos" -> user.setPublicRepos(parser.getValueAsInt());
+                    case "public_gists" -> user.setPublicGists(parser.getValueAsInt());
+                    case "followers" -> user.setFollowers(parser.getValueAsInt());
+                    case "following" -> user.setFollowing(parser.getValueAsInt());
+                    case "created_at" -> user.setCreatedAt(parser.getValueAsString());
+                    case "updated_at" -> user.setUpdatedAt(parser.getValueAsString());
+                    default -> parser.skipChildren();
+                }
+            }
+            return user;
+        }
+    }
+
+    public List<GitHubRepository> readRepositories(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_ARRAY);
+            List<GitHubRepository> repositories = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                repositories.add(readRepository(parser));
+            }
+            return repositories;
+        }
+    }
+
+    public List<GitHubCommit> readCommits(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_ARRAY);
+            List<GitHubCommit> commits = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                commits.add(readCommit(parser));
+            }
+            return commits;
+        }
+    }
+
+    public GitHubCommitDetail readCommitDetail(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            GitHubCommitDetail commitDetail = new GitHubCommitDetail();
+            List<GitHubFile> files = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "sha" -> commitDetail.setSha(parser.getValueAsString());
+                    case "commit" -> {
+                        CommitInfo info = readCommitInfo(parser, value);
+                        commitDetail.setMessage(info.message);
+                        commitDetail.setAuthorName(info.authorName);
+                        commitDetail.setAuthorEmail(info.authorEmail);
+                        commitDetail.setDate(info.date);
+                    }
+                    case "stats" -> readStats(parser, value, commitDetail);
+                    case "files" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                files.add(readFile(parser));
+                            }
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            commitDetail.setFiles(files);
+            return commitDetail;
+        }
+    }
+
+    public TreeListing readTree(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            Map<String, String> blobShas = new HashMap<>();
+            boolean truncated = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("truncated".equals(field)) {
+                    truncated = parser.getValueAsBoolean();
+                } else if ("tree".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        readTreeItem(parser, blobShas);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new TreeListing(blobShas, truncated);
+        }
+    }
+
+    // ========== Object Readers ==========
+
+    private GitHubRepository readRepository(JsonParser parser) throws IOException {
+        GitHubRepository repo = new GitHubRepository();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> repo.setId(parser.getValueAsLong());
+                case "name" -> repo.setName(parser.getValueAsString());
+                case "full_name" -> repo.setFullName(parser.getValueAsString());
+                case "description" -> repo.setDescription(parser.getValueAsString());
+                case "html_url" -> repo.setHtmlUrl(parser.getValueAsString());
+                case "default_branch" -> repo.setDefaultBranch(parser.getValueAsString());
+                case "private" -> repo.setPrivateRepo(parser.getValueAsBoolean());
+                case "created_at" -> repo.setCreatedAt(parser.getValueAsString());
+                case "updated_at" -> repo.setUpdatedAt(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return repo;
+    }
+
+    private GitHubCommit readCommit(JsonParser parser) throws IOException {
+        GitHubCommit commit = new GitHubCommit();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "sha" -> commit.setSha(parser.getValueAsString());
+                case "html_url" -> commit.setHtmlUrl(parser.getValueAsString());
+                case "commit" -> {
+                    CommitInfo info = readCommitInfo(parser, value);
+                    commit.setMessage(info.message);
+                    commit.setAuthorName(info.authorName);
+                    commit.setAuthorEmail(info.authorEmail);
+                    commit.setDate(info.date);
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return commit;
+    }
+
+    private GitHubFile readFile(JsonParser parser) throws IOException {
+        GitHubFile file = new GitHubFile();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "filename" -> file.setFilename(parser.getValueAsString());
+                case "status" -> file.setStatus(parser.getValueAsString());
+                case "additions" -> file.setAdditions(parser.getValueAsInt());
+                case "deletions" -> file.setDeletions(parser.getValueAsInt());
+                case "changes" -> file.setChanges(parser.getValueAsInt());
+                case "patch" -> file.setPatch(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return file;
+    }
+
+    private void readTreeItem(JsonParser parser, Map<String, String> blobShas) throws IOException {
+        String path = null;
+        String sha = null;
+        String type = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "path" -> path = parser.getValueAsString();
+                case "sha" -> sha = parser.getValueAsString();
+                case "type" -> type = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        if ("blob".equals(type) && path != null && sha != null) {
+            blobShas.put(path, sha);
+        }
+    }
+
+    private void readStats(JsonParser parser, JsonToken value, GitHubCommitDetail commitDetail) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "additions" -> commitDetail.setAdditions(parser.getValueAsInt());
+                case "deletions" -> commitDetail.setDeletions(parser.getValueAsInt());
+                case "total" -> commitDetail.setTotal(parser.getValueAsInt());
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 커밋 객체 안의 "commit" 필드 (메시지와 작성자 정보).
+     */
+    private static class CommitInfo {
+        String message;
+        String authorName;
+        String authorEmail;
+        String date;
+    }
+
+    private CommitInfo readCommitInfo(JsonParser parser, JsonToken value) throws IOException {
+        CommitInfo info = new CommitInfo();
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return info;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken fieldValue = parser.nextToken();
+            if ("message".equals(field)) {
+                info.message = parser.getValueAsString();
+            } else if ("author".equals(field) && fieldValue == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String authorField = parser.currentName();
+                    parser.nextToken();
+                    switch (authorField) {
+                        case "name" -> info.authorName = parser.getValueAsString();
+                        case "email" -> info.authorEmail = parser.getValueAsString();
+                        case "date" -> info.date = parser.getValueAsString();
+                        default -> parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return info;
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("예상하지 못한 GitHub 응답 형식입니다: " + expected + " 대신 " + actual);
+        }
+    }
+}
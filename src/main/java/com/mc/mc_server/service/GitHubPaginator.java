@@ -0,0 +1,146 @@
+package com.mc.mc_server.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * GitHub 목록 API의 Link 헤더(rel="next")를 따라가며 항목을 하나씩 돌려주는 반복자입니다.
+ * 현재 페이지를 소비하는 동안 다음 페이지를 미리 조회하며, 메모리에는 최대 두 페이지만 유지합니다.
+ * 첫 페이지는 생성 시점에 호출 스레드에서 조회하므로 인증/권한 오류는 바로 예외로 전달됩니다.
+ */
+public class GitHubPaginator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubPaginator.class);
+
+    private final Function<String, Page<T>> pageLoader;
+    private final Executor prefetchExecutor;
+    private final int maxPages;
+
+    private Iterator<T> current;
+    private CompletableFuture<Page<T>> nextPage;
+    private int loadedPages;
+    private volatile boolean closed;
+
+    /**
+     * 한 페이지의 조회 결과 (항목과 다음 페이지 URL).
+     */
+    public static class Page<T> {
+        private final List<T> items;
+        private final String nextUrl;
+
+        public Page(List<T> items, String nextUrl) {
+            this.items = items;
+            this.nextUrl = nextUrl;
+        }
+
+        public List<T> getItems() { return items; }
+        public String getNextUrl() { return nextUrl; }
+    }
+
+    public GitHubPaginator(String firstUrl, Function<String, Page<T>> pageLoader,
+                           Executor prefetchExecutor, int maxPages) {
+        this.pageLoader = pageLoader;
+        this.prefetchExecutor = prefetchExecutor;
+        this.maxPages = maxPages;
+        accept(pageLoader.apply(firstUrl));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (nextPage == null || closed) {
+                return false;
+            }
+            accept(await(nextPage));
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 더 이상 소비하지 않을 때 호출하여 미리 조회 중인 페이지를 취소합니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (nextPage != null) {
+            nextPage.cancel(false);
+        }
+    }
+
+    /**
+     * 순차 스트림으로 변환합니다. 스트림을 닫으면 반복자도 닫힙니다.
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    private void accept(Page<T> page) {
+        loadedPages++;
+        current = page.getItems().iterator();
+        nextPage = null;
+
+        String nextUrl = page.getNextUrl();
+        if (nextUrl == null || closed) {
+            return;
+        }
+        if (loadedPages >= maxPages) {
+            logger.warn("Stopped paginating after {} pages; remaining results are not loaded", loadedPages);
+            return;
+        }
+        nextPage = CompletableFuture.supplyAsync(() -> pageLoader.apply(nextUrl), prefetchExecutor);
+    }
+
+    private Page<T> await(CompletableFuture<Page<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Link 헤더에서 rel="next" URL을 찾습니다. 없으면 null을 반환합니다.
+     * 예: &lt;https://api.github.com/user/repos?page=2&gt;; rel="next", &lt;...&gt;; rel="last"
+     */
+    public static String nextLink(String linkHeader) {
+        if (linkHeader == null) {
+            return null;
+        }
+        for (String link : linkHeader.split(",")) {
+            int urlStart = link.indexOf('<');
+            int urlEnd = link.indexOf('>', urlStart + 1);
+            if (urlStart < 0 || urlEnd < 0) {
+                continue;
+            }
+            String params = link.substring(urlEnd + 1);
+            if (params.contains("rel=\"next\"")) {
+                return link.substring(urlStart + 1, urlEnd);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.mc.mc_server.service;
+
+/**
+ * GitHub API 요청 한도 때문에 요청을 보낼 수 없을 때 발생합니다.
+ */
+public class GitHubRateLimitException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public GitHubRateLimitException(long retryAfterSeconds) {
+        super("GitHub API 요청 한도를 초과했습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
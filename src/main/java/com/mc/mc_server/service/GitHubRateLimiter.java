@@ -0,0 +1,205 @@
+package com.mc.mc_server.service;
+
+import com.mc.mc_server.util.TokenFingerprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰별 GitHub API 요청 한도를 추적하고 요청 속도를 조절합니다.
+ * 응답 헤더(X-RateLimit-*)로 남은 한도를 갱신하고, 한도가 거의 소진되면 초기화 시각까지
+ * 남은 요청을 고르게 분산시키며, 403/429 응답에는 Retry-After 또는 지터가 있는 지수 백오프로 대기합니다.
+ * 한도 초기화 시각과 백오프 대기가 모두 지난 토큰의 상태는 더 이상 필요 없으므로 삭제합니다.
+ */
+@Service
+public class GitHubRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubRateLimiter.class);
+
+    private final int reserve;
+    private final long maxWaitMillis;
+    private final long baseBackoffMillis;
+
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    private final AtomicLong pacedRequests = new AtomicLong();
+    private final AtomicLong rejectedRequests = new AtomicLong();
+    private final AtomicLong rateLimitedResponses = new AtomicLong();
+
+    public GitHubRateLimiter(@Value("${github.rate-limit.reserve:100}") int reserve,
+                             @Value("${github.rate-limit.max-wait:30s}") Duration maxWait,
+                             @Value("${github.rate-limit.base-backoff:1s}") Duration baseBackoff) {
+        this.reserve = reserve;
+        this.maxWaitMillis = maxWait.toMillis();
+        this.baseBackoffMillis = baseBackoff.toMillis();
+    }
+
+    /**
+     * 토큰 하나의 요청 한도 상태.
+     */
+    private static class Budget {
+        volatile int limit = -1;
+        volatile int remaining = -1;
+        volatile long resetAtMillis;
+        volatile long blockedUntilMillis;
+        // 다음 요청이 나갈 수 있는 시각 (한도 소진 임박 시 요청을 줄 세우는 데 사용)
+        final AtomicLong nextSlotMillis = new AtomicLong();
+
+        /**
+         * 초기화 시각과 백오프 대기가 모두 지나 속도 조절에 더 이상 쓰이지 않는 상태인지 확인합니다.
+         */
+        boolean isExpired(long now) {
+            return resetAtMillis <= now && blockedUntilMillis <= now && nextSlotMillis.get() <= now;
+        }
+    }
+
+    /**
+     * 요청을 보내기 전에 호출합니다. 필요하면 현재 스레드를 대기시키며,
+     * 최대 대기 시간을 넘겨야 하는 경우 {@link GitHubRateLimitException}을 던집니다.
+     */
+    public void acquire(String tokenKey) throws InterruptedException {
+        Budget budget = budgets.get(tokenKey);
+        if (budget == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (budget.isExpired(now)) {
+            // 한도가 초기화되었으므로 다음 응답 헤더로 다시 추적
+            budgets.remove(tokenKey, budget);
+            return;
+        }
+        long readyAt = now;
+
+        if (budget.blockedUntilMillis > now) {
+            readyAt = budget.blockedUntilMillis;
+        } else if (budget.remaining >= 0 && budget.remaining <= reserve && budget.resetAtMillis > now) {
+            if (budget.remaining == 0) {
+                readyAt = budget.resetAtMillis;
+            } else {
+                // 남은 요청을 초기화 시각까지 균등하게 분산
+                long interval = (budget.resetAtMillis - now) / (budget.remaining + 1);
+                readyAt = budget.nextSlotMillis.accumulateAndGet(now, (next, current) -> Math.max(next, current) + interval) - interval;
+            }
+        }
+
+        long waitMillis = readyAt - now;
+        if (waitMillis <= 0) {
+            return;
+        }
+        if (waitMillis > maxWaitMillis) {
+            rejectedRequests.incrementAndGet();
+            throw new GitHubRateLimitException(Math.max(1, waitMillis / 1000));
+        }
+
+        pacedRequests.incrementAndGet();
+        logger.debug("Pacing GitHub request for {} ms (remaining: {})", waitMillis, budget.remaining);
+        Thread.sleep(waitMillis);
+    }
+
+    /**
+     * 응답 헤더로 한도 상태를 갱신합니다.
+     */
+    public void update(String tokenKey, HttpHeaders headers) {
+        String remaining = headers.getFirst("X-RateLimit-Remaining");
+        if (remaining == null) {
+            return;
+        }
+
+        Budget budget = budgets.computeIfAbsent(tokenKey, key -> new Budget());
+        try {
+            budget.remaining = Integer.parseInt(remaining);
+            String limit = headers.getFirst("X-RateLimit-Limit");
+            if (limit != null) {
+                budget.limit = Integer.parseInt(limit);
+            }
+            String reset = headers.getFirst("X-RateLimit-Reset");
+            if (reset != null) {
+                budget.resetAtMillis = Long.parseLong(reset) * 1000L;
+            }
+        } catch (NumberFormatException e) {
+            logger.debug("Ignoring malformed rate limit headers: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 403/429 응답을 받은 뒤 다시 시도하기까지 기다릴 시간을 계산하고, 같은 토큰의 다른 요청도 그동안 멈추게 합니다.
+     * 최대 대기 시간을 넘으면 -1을 반환합니다.
+     */
+    public long backOff(String tokenKey, int attempt, HttpHeaders headers) {
+        rateLimitedResponses.incrementAndGet();
+        long now = System.currentTimeMillis();
+        long delayMillis;
+
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        Budget budget = budgets.computeIfAbsent(tokenKey, key -> new Budget());
+        if (retryAfter != null && retryAfter.chars().allMatch(Character::isDigit)) {
+            delayMillis = Long.parseLong(retryAfter) * 1000L;
+        } else if (budget.remaining == 0 && budget.resetAtMillis > now) {
+            delayMillis = budget.resetAtMillis - now;
+        } else {
+            // 지수 백오프 + 전체 지터
+            long ceiling = baseBackoffMillis << Math.min(attempt, 10);
+            delayMillis = baseBackoffMillis + ThreadLocalRandom.current().nextLong(ceiling + 1);
+        }
+
+        if (delayMillis > maxWaitMillis) {
+            return -1;
+        }
+        budget.blockedUntilMillis = Math.max(budget.blockedUntilMillis, now + delayMillis);
+        logger.warn("GitHub rate limit hit (attempt {}), backing off for {} ms", attempt + 1, delayMillis);
+        return delayMillis;
+    }
+
+    /**
+     * 초기화 시각이 지난 토큰의 상태를 삭제합니다 (더 이상 요청하지 않는 토큰이 남지 않도록).
+     */
+    @Scheduled(fixedDelayString = "${github.rate-limit.cleanup-interval:5m}")
+    public void removeExpiredBudgets() {
+        long now = System.currentTimeMillis();
+        budgets.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+    }
+
+    /**
+     * 토큰의 현재 한도 상태를 반환합니다. 아직 응답을 받은 적이 없으면 null을 반환합니다.
+     */
+    public Map<String, Object> getStatus(String token) {
+        Budget budget = budgets.get(TokenFingerprint.of(token));
+        if (budget == null) {
+            return null;
+        }
+        Map<String, Object> status = new HashMap<>();
+        status.put("limit", budget.limit);
+        status.put("remaining", budget.remaining);
+        status.put("resetAt", Instant.ofEpochMilli(budget.resetAtMillis).toString());
+        status.put("throttled", budget.remaining >= 0 && budget.remaining <= reserve);
+        return status;
+    }
+
+    public Map<String, Object> getStats() {
+        int minRemaining = budgets.values().stream()
+            .mapToInt(budget -> budget.remaining)
+            .filter(remaining -> remaining >= 0)
+            .min()
+            .orElse(-1);
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("trackedTokens", budgets.size());
+        stats.put("minRemaining", minRemaining);
+        stats.put("pacedRequests", pacedRequests.get());
+        stats.put("rejectedRequests", rejectedRequests.get());
+        stats.put("rateLimitedResponses", rateLimitedResponses.get());
+        return stats;
+    }
+}
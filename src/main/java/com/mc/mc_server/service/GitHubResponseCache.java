@@ -0,0 +1,92 @@
+package com.mc.mc_server.service;
+
+import com.mc.mc_server.util.LruCache;
+import com.mc.mc_server.util.TokenFingerprint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GitHub 조건부 요청(ETag / Last-Modified)을 위한 응답 캐시입니다.
+ * (토큰, URL) 단위로 검증자와 파싱된 DTO를 보관하고, 304 응답 시 보관된 DTO를 다시 사용합니다.
+ * 보관된 값은 여러 요청이 공유하므로 호출 측에서 복사본을 저장하고, 꺼낸 값도 복사하거나 읽기 전용으로만 사용해야 합니다.
+ * GitHub는 304 응답을 요청 한도에 포함하지 않습니다.
+ * 재귀 트리 목록처럼 DTO 하나가 수십 MB가 될 수 있으므로 항목 수가 아니라 응답 본문 크기 합으로 제한하며,
+ * 한도보다 큰 응답은 캐시하지 않습니다.
+ */
+@Service
+public class GitHubResponseCache {
+
+    private final LruCache<String, CachedResponse> cache;
+    private final AtomicLong notModified = new AtomicLong();
+
+    // 응답 본문 외에 키, 검증자, 객체 헤더 등의 고정 비용
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    public GitHubResponseCache(@Value("${github.cache.conditional.max-bytes:33554432}") long maxBytes) {
+        this.cache = new LruCache<>(maxBytes, CachedResponse::getWeightBytes);
+    }
+
+    /**
+     * 캐시된 응답 (검증자와 파싱된 값).
+     */
+    public static class CachedResponse {
+        private final String etag;
+        private final String lastModified;
+        private final Object value;
+        private final long weightBytes;
+
+        public CachedResponse(String etag, String lastModified, Object value, long weightBytes) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.value = value;
+            this.weightBytes = weightBytes;
+        }
+
+        public String getEtag() { return etag; }
+        public String getLastModified() { return lastModified; }
+        public Object getValue() { return value; }
+        public long getWeightBytes() { return weightBytes; }
+    }
+
+    public CachedResponse lookup(String token, String url) {
+        return cache.get(cacheKey(token, url));
+    }
+
+    /**
+     * 파싱된 값을 저장합니다. 값의 메모리 사용량은 파싱에 사용한 응답 본문 바이트 수로 추정합니다
+     * (DTO는 본문의 일부 필드만 보관하므로 대체로 본문보다 작음).
+     */
+    public void store(String token, String url, String etag, String lastModified, Object value, long bodyBytes) {
+        if (etag == null && lastModified == null) {
+            return;
+        }
+        cache.put(cacheKey(token, url), new CachedResponse(etag, lastModified, value, bodyBytes + ENTRY_OVERHEAD_BYTES));
+    }
+
+    /**
+     * 304 응답으로 캐시를 재사용한 횟수를 기록합니다.
+     */
+    public void recordNotModified() {
+        notModified.incrementAndGet();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("entries", cache.size());
+        stats.put("bytes", cache.getWeight());
+        stats.put("maxBytes", cache.getMaxWeight());
+        stats.put("lookupHits", cache.getHits());
+        stats.put("lookupMisses", cache.getMisses());
+        stats.put("notModified", notModified.get());
+        stats.put("evictions", cache.getEvictions());
+        return stats;
+    }
+
+    private static String cacheKey(String token, String url) {
+        return TokenFingerprint.of(token) + " " + url;
+    }
+}
@@ -7,31 +7,102 @@ import com.mc.mc_server.dto.GitHubCommitDetail;
 import com.mc.mc_server.dto.GitHubFile;
 import com.mc.mc_server.dto.GitHubRepository;
 import com.mc.mc_server.dto.GitHubUser;
+import com.mc.mc_server.util.LruCache;
+import com.mc.mc_server.util.TokenFingerprint;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class GitHubService {
     
+    private static final Logger logger = LoggerFactory.getLogger(GitHubService.class);
+    
     private static final String GITHUB_API_BASE_URL = "https://api.github.com";
     
+    // GitHub 목록 API가 허용하는 최대 페이지 크기
+    private static final int PAGE_SIZE = 100;
+    
     @Autowired
     private RestTemplate restTemplate;
     
     @Autowired
     private ObjectMapper objectMapper;
     
+    @Autowired
+    private GitHubJsonReader jsonReader;
+    
+    @Autowired
+    private GitHubBlobCache blobCache;
+    
+    @Autowired
+    private GitHubResponseCache responseCache;
+    
+    @Autowired
+    private GitHubRateLimiter rateLimiter;
+    
+    @Value("${github.pagination.max-pages:100}")
+    private int maxPages;
+    
+    // 다음 페이지를 미리 조회하는 스레드 (스트림 하나당 동시에 최대 한 건)
+    private final ThreadPoolExecutor prefetchExecutor = createPrefetchExecutor();
+    
+    // 전체 SHA로 조회한 커밋은 내용이 바뀌지 않으므로 재사용 (토큰별)
+    // 호출자가 결과를 수정해도 캐시가 바뀌지 않도록 저장과 반환 모두 사본을 사용
+    private final LruCache<String, GitHubCommitDetail> commitDetailCache = LruCache.ofMaxEntries(256);
+    
+    private static ThreadPoolExecutor createPrefetchExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            4, 4,
+            60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(64),
+            runnable -> {
+                Thread thread = new Thread(runnable, "github-page-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            // 미리 조회할 여유가 없으면 소비하는 스레드에서 바로 조회
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+    
     private HttpHeaders createHeaders(String token) {
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", "token " + token);
@@ -39,23 +110,150 @@ public class GitHubService {
         return headers;
     }
     
+    /**
+     * 응답 본문 스트림을 DTO로 변환하는 함수.
+     */
+    @FunctionalInterface
+    private interface ResponseParser<T> {
+        T parse(InputStream body) throws IOException;
+    }
+    
+    /**
+     * 응답 본문을 문자열로 모으지 않고 스트림에서 바로 DTO로 파싱하는 GET을 수행합니다.
+     */
+    private <T> T getJson(String token, String url, ResponseParser<T> parser) {
+        HttpHeaders headers = createHeaders(token);
+        return restTemplate.execute(
+            url,
+            HttpMethod.GET,
+            request -> request.getHeaders().addAll(headers),
+            response -> parser.parse(response.getBody())
+        );
+    }
+    
+    /**
+     * ETag / Last-Modified 검증자를 붙여 조건부 GET을 수행합니다.
+     * 304 응답이면 이전에 파싱해 둔 DTO의 복사본을 반환하고, 그 외에는 본문을 스트리밍 파싱해 복사본을 캐시에 저장합니다.
+     * 캐시된 값은 같은 토큰의 모든 요청이 공유하므로, copier로 호출자마다 따로 수정할 수 있는 복사본을 만듭니다.
+     */
+    private <T> T getConditional(String token, String url, ResponseParser<T> parser, UnaryOperator<T> copier) {
+        // RestTemplate에 문자열 URL을 넘길 때와 같은 방식으로 인코딩
+        URI uri = restTemplate.getUriTemplateHandler().expand(url);
+        return getConditionalResponse(token, uri, (body, headers) -> parser.parse(body), copier);
+    }
+    
+    /**
+     * 목록 API의 한 페이지를 조건부 GET으로 조회합니다. 다음 페이지 URL(Link 헤더)도 함께 캐시됩니다.
+     * 페이지 URL은 이미 인코딩된 값(첫 페이지는 호출 측에서 인코딩, 이후는 GitHub가 준 Link 헤더)이므로 다시 인코딩하지 않습니다.
+     */
+    private <T> GitHubPaginator.Page<T> getPage(String token, String url, ResponseParser<List<T>> parser,
+                                                UnaryOperator<T> itemCopier) {
+        return getConditionalResponse(token, URI.create(url), 
+            (body, headers) -> new GitHubPaginator.Page<>(
+                parser.parse(body),
+                GitHubPaginator.nextLink(headers.getFirst(HttpHeaders.LINK))
+            ),
+            page -> new GitHubPaginator.Page<>(copyAll(page.getItems(), itemCopier), page.getNextUrl()));
+    }
+    
+    private static <T> List<T> copyAll(List<T> items, UnaryOperator<T> copier) {
+        List<T> copies = new ArrayList<>(items.size());
+        for (T item : items) {
+            copies.add(copier.apply(item));
+        }
+        return copies;
+    }
+    
+    /**
+     * 응답 본문과 헤더로 값을 만드는 함수 (조건부 GET용).
+     */
+    @FunctionalInterface
+    private interface ConditionalExtractor<T> {
+        T extract(InputStream body, HttpHeaders headers) throws IOException;
+    }
+    
+    /**
+     * 읽은 바이트 수를 세는 스트림 (응답 캐시 항목의 크기 추정용).
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+        
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+        
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+        
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+        
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <T> T getConditionalResponse(String token, URI uri, ConditionalExtractor<T> extractor,
+                                         UnaryOperator<T> copier) {
+        String url = uri.toString();
+        HttpHeaders headers = createHeaders(token);
+        GitHubResponseCache.CachedResponse cached = responseCache.lookup(token, url);
+        if (cached != null) {
+            if (cached.getEtag() != null) {
+                headers.setIfNoneMatch(cached.getEtag());
+            }
+            if (cached.getLastModified() != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+            }
+        }
+        
+        return restTemplate.execute(
+            uri,
+            HttpMethod.GET,
+            request -> request.getHeaders().addAll(headers),
+            response -> {
+                if (cached != null && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                    responseCache.recordNotModified();
+                    return copier.apply((T) cached.getValue());
+                }
+                
+                CountingInputStream body = new CountingInputStream(response.getBody());
+                T value = extractor.extract(body, response.getHeaders());
+                responseCache.store(token, url, 
+                    response.getHeaders().getETag(), 
+                    response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED), 
+                    copier.apply(value),
+                    body.count);
+                return value;
+            }
+        );
+    }
+    
     /**
      * GitHub 토큰으로 사용자명(username)만 조회합니다.
      */
     public String getUsername(String token) {
         try {
-            HttpHeaders headers = createHeaders(token);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                GITHUB_API_BASE_URL + "/user",
-                HttpMethod.GET,
-                entity,
-                String.class
-            );
-            
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            return jsonNode.get("login").asText();
+            // /user 응답은 getUserInfo와 같은 캐시 항목을 공유
+            return fetchUserInfo(token).getLogin();
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("GitHub 사용자명을 가져오는데 실패했습니다: " + e.getMessage());
         }
@@ -66,113 +264,167 @@ public class GitHubService {
      */
     public GitHubUser getUserInfo(String token) {
         try {
-            HttpHeaders headers = createHeaders(token);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                GITHUB_API_BASE_URL + "/user",
-                HttpMethod.GET,
-                entity,
-                String.class
-            );
-            
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            GitHubUser user = new GitHubUser();
-            
-            user.setId(jsonNode.get("id").asLong());
-            user.setLogin(jsonNode.get("login").asText());
-            
-            // null 체크가 필요한 필드들
-            if (jsonNode.has("name") && !jsonNode.get("name").isNull()) {
-                user.setName(jsonNode.get("name").asText());
-            }
-            if (jsonNode.has("email") && !jsonNode.get("email").isNull()) {
-                user.setEmail(jsonNode.get("email").asText());
-            }
-            if (jsonNode.has("avatar_url") && !jsonNode.get("avatar_url").isNull()) {
-                user.setAvatarUrl(jsonNode.get("avatar_url").asText());
-            }
-            if (jsonNode.has("bio") && !jsonNode.get("bio").isNull()) {
-                user.setBio(jsonNode.get("bio").asText());
-            }
-            if (jsonNode.has("company") && !jsonNode.get("company").isNull()) {
-                user.setCompany(jsonNode.get("company").asText());
-            }
-            if (jsonNode.has("location") && !jsonNode.get("location").isNull()) {
-                user.setLocation(jsonNode.get("location").asText());
-            }
-            if (jsonNode.has("blog") && !jsonNode.get("blog").isNull()) {
-                user.setBlog(jsonNode.get("blog").asText());
-            }
-            if (jsonNode.has("public_repos")) {
-                user.setPublicRepos(jsonNode.get("public_repos").asInt());
-            }
-            if (jsonNode.has("public_gists")) {
-                user.setPublicGists(jsonNode.get("public_gists").asInt());
-            }
-            if (jsonNode.has("followers")) {
-                user.setFollowers(jsonNode.get("followers").asInt());
-            }
-            if (jsonNode.has("following")) {
-                user.setFollowing(jsonNode.get("following").asInt());
+            return fetchUserInfo(token);
+        } catch (GitHubRateLimitException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("GitHub 사용자 정보를 가져오는데 실패했습니다: " + e.getMessage());
+        }
+    }
+    
+    private GitHubUser fetchUserInfo(String token) {
+        return getConditional(token, GITHUB_API_BASE_URL + "/user", jsonReader::readUser, GitHubUser::new);
+    }
+    
+    /**
+     * 사용자의 레포지토리 전체 목록을 조회합니다. 모든 페이지를 따라가며 합칩니다.
+     */
+    public List<GitHubRepository> getUserRepositories(String token) {
+        // 페이지 조회 실패는 streamUserRepositories에서 이미 RuntimeException으로 변환됨
+        try (Stream<GitHubRepository> repositories = streamUserRepositories(token)) {
+            return repositories.collect(Collectors.toList());
+        }
+    }
+    
+    /**
+     * 사용자의 레포지토리를 페이지 단위로 조회하며 하나씩 흘려보냅니다.
+     * 반환된 스트림은 사용 후 반드시 닫아야 합니다.
+     */
+    public Stream<GitHubRepository> streamUserRepositories(String token) {
+        String url = GITHUB_API_BASE_URL + "/user/repos?per_page=" + PAGE_SIZE + "&sort=updated";
+        return paginate(url, pageUrl -> {
+            try {
+                return getPage(token, pageUrl, jsonReader::readRepositories, GitHubRepository::new);
+            } catch (GitHubRateLimitException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("레포지토리 목록을 가져오는데 실패했습니다: " + e.getMessage());
             }
-            if (jsonNode.has("created_at")) {
-                user.setCreatedAt(jsonNode.get("created_at").asText());
+        });
+    }
+    
+    public List<GitHubCommit> getRepositoryCommits(String token, String owner, String repo, int page, int perPage) {
+        try {
+            String url = String.format("%s/repos/%s/%s/commits?page=%d&per_page=%d", 
+                GITHUB_API_BASE_URL, owner, repo, page, perPage);
+            
+            return getConditional(token, url, jsonReader::readCommits, commits -> copyAll(commits, GitHubCommit::new));
+        } catch (GitHubRateLimitException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("커밋 목록을 가져오는데 실패했습니다: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 레포지토리의 커밋 이력을 페이지 단위로 조회하며 하나씩 흘려보냅니다.
+     * ref가 없으면 기본 브랜치 기준이며, 반환된 스트림은 사용 후 반드시 닫아야 합니다.
+     */
+    public Stream<GitHubCommit> streamRepositoryCommits(String token, String owner, String repo, String ref) {
+        String url = String.format("%s/repos/%s/%s/commits?per_page=%d", 
+            GITHUB_API_BASE_URL, owner, repo, PAGE_SIZE);
+        if (ref != null && !ref.isBlank()) {
+            // 브랜치 이름의 &, #, + 등이 쿼리를 깨뜨리지 않도록 값 전체를 인코딩
+            url += "&sha=" + URLEncoder.encode(ref, StandardCharsets.UTF_8);
+        }
+        return paginate(url, pageUrl -> {
+            try {
+                return getPage(token, pageUrl, jsonReader::readCommits, GitHubCommit::new);
+            } catch (GitHubRateLimitException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("커밋 목록을 가져오는데 실패했습니다: " + e.getMessage());
             }
-            if (jsonNode.has("updated_at")) {
-                user.setUpdatedAt(jsonNode.get("updated_at").asText());
+        });
+    }
+    
+    private <T> Stream<T> paginate(String firstUrl, Function<String, GitHubPaginator.Page<T>> pageLoader) {
+        return new GitHubPaginator<>(firstUrl, pageLoader, prefetchExecutor, maxPages).stream();
+    }
+    
+    public GitHubCommitDetail getCommitDetail(String token, String owner, String repo, String sha) {
+        boolean immutable = isFullSha(sha);
+        // 다른 사용자가 접근 권한 없이 캐시된 커밋을 조회하지 않도록 토큰별로 구분
+        String cacheKey = TokenFingerprint.of(token) + ":" + owner + "/" + repo + "@" + sha;
+        if (immutable) {
+            GitHubCommitDetail cached = commitDetailCache.get(cacheKey);
+            if (cached != null) {
+                return new GitHubCommitDetail(cached);
             }
+        }
+        
+        try {
+            String url = String.format("%s/repos/%s/%s/commits/%s", 
+                GITHUB_API_BASE_URL, owner, repo, sha);
+            
+            GitHubCommitDetail commitDetail = getJson(token, url, jsonReader::readCommitDetail);
             
-            return user;
+            if (immutable) {
+                commitDetailCache.put(cacheKey, new GitHubCommitDetail(commitDetail));
+            }
+            return commitDetail;
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
-            throw new RuntimeException("GitHub 사용자 정보를 가져오는데 실패했습니다: " + e.getMessage());
+            throw new RuntimeException("커밋 상세 정보를 가져오는데 실패했습니다: " + e.getMessage());
         }
     }
     
-    public List<GitHubRepository> getUserRepositories(String token) {
+    /**
+     * 토큰의 남은 API 요청 한도를 조회합니다.
+     * 아직 추적 중인 정보가 없으면 한도에 포함되지 않는 /rate_limit 엔드포인트를 호출해 갱신합니다.
+     */
+    public Map<String, Object> getRateLimitStatus(String token) {
+        Map<String, Object> status = rateLimiter.getStatus(token);
+        if (status != null) {
+            return status;
+        }
+        
         try {
             HttpHeaders headers = createHeaders(token);
             HttpEntity<String> entity = new HttpEntity<>(headers);
             
-            ResponseEntity<String> response = restTemplate.exchange(
-                GITHUB_API_BASE_URL + "/user/repos?per_page=100&sort=updated",
+            // 응답 헤더는 인터셉터에서 rateLimiter에 반영됨
+            restTemplate.exchange(
+                GITHUB_API_BASE_URL + "/rate_limit",
                 HttpMethod.GET,
                 entity,
                 String.class
             );
-            
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            List<GitHubRepository> repositories = new ArrayList<>();
-            
-            for (JsonNode repoNode : jsonNode) {
-                GitHubRepository repo = new GitHubRepository();
-                repo.setId(repoNode.get("id").asLong());
-                repo.setName(repoNode.get("name").asText());
-                repo.setFullName(repoNode.get("full_name").asText());
-                repo.setDescription(repoNode.has("description") && !repoNode.get("description").isNull() 
-                    ? repoNode.get("description").asText() : null);
-                repo.setHtmlUrl(repoNode.get("html_url").asText());
-                repo.setDefaultBranch(repoNode.get("default_branch").asText());
-                repo.setPrivateRepo(repoNode.get("private").asBoolean());
-                repo.setCreatedAt(repoNode.get("created_at").asText());
-                repo.setUpdatedAt(repoNode.get("updated_at").asText());
-                
-                repositories.add(repo);
-            }
-            
-            return repositories;
+            return rateLimiter.getStatus(token);
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
-            throw new RuntimeException("레포지토리 목록을 가져오는데 실패했습니다: " + e.getMessage());
+            throw new RuntimeException("API 요청 한도 정보를 가져오는데 실패했습니다: " + e.getMessage());
         }
     }
     
-    public List<GitHubCommit> getRepositoryCommits(String token, String owner, String repo, int page, int perPage) {
+    /**
+     * 커밋 캐시 통계를 반환합니다.
+     */
+    public Map<String, Object> getCommitCacheStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("hits", commitDetailCache.getHits());
+        stats.put("misses", commitDetailCache.getMisses());
+        stats.put("entries", commitDetailCache.size());
+        stats.put("evictions", commitDetailCache.getEvictions());
+        return stats;
+    }
+    
+    private static boolean isFullSha(String sha) {
+        return sha != null && sha.length() == 40 && sha.chars().allMatch(c -> Character.digit(c, 16) >= 0);
+    }
+    
+    /**
+     * 파일의 현재 내용을 가져옵니다.
+     */
+    public String getFileContent(String token, String owner, String repo, String path, String branch) {
         try {
             HttpHeaders headers = createHeaders(token);
             HttpEntity<String> entity = new HttpEntity<>(headers);
             
-            String url = String.format("%s/repos/%s/%s/commits?page=%d&per_page=%d", 
-                GITHUB_API_BASE_URL, owner, repo, page, perPage);
+            String url = String.format("%s/repos/%s/%s/contents/%s?ref=%s", 
+                GITHUB_API_BASE_URL, owner, repo, path, branch);
             
             ResponseEntity<String> response = restTemplate.exchange(
                 url,
@@ -182,113 +434,73 @@ public class GitHubService {
             );
             
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            List<GitHubCommit> commits = new ArrayList<>();
-            
-            for (JsonNode commitNode : jsonNode) {
-                GitHubCommit commit = new GitHubCommit();
-                commit.setSha(commitNode.get("sha").asText());
-                
-                JsonNode commitInfo = commitNode.get("commit");
-                commit.setMessage(commitInfo.get("message").asText());
-                
-                JsonNode author = commitInfo.get("author");
-                commit.setAuthorName(author.get("name").asText());
-                commit.setAuthorEmail(author.get("email").asText());
-                commit.setDate(author.get("date").asText());
-                
-                commit.setHtmlUrl(commitNode.get("html_url").asText());
-                
-                commits.add(commit);
-            }
+            String encodedContent = jsonNode.get("content").asText();
             
-            return commits;
+            // Base64 디코딩 (MIME 디코더는 GitHub가 넣는 줄바꿈을 정규식 없이 건너뜀)
+            byte[] decodedBytes = Base64.getMimeDecoder().decode(encodedContent);
+            return new String(decodedBytes, StandardCharsets.UTF_8);
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
-            throw new RuntimeException("커밋 목록을 가져오는데 실패했습니다: " + e.getMessage());
+            throw new RuntimeException("파일 내용을 가져오는데 실패했습니다: " + e.getMessage());
         }
     }
     
-    public GitHubCommitDetail getCommitDetail(String token, String owner, String repo, String sha) {
+    /**
+     * 브랜치(또는 커밋)의 전체 트리를 한 번에 조회하여 파일 경로별 blob SHA를 반환합니다.
+     * 트리가 너무 커서 잘린 경우 포함되지 않은 경로는 호출 측에서 개별 조회해야 합니다.
+     * 반환된 맵은 읽기 전용입니다.
+     */
+    public Map<String, String> getTreeBlobShas(String token, String owner, String repo, String ref) {
         try {
-            HttpHeaders headers = createHeaders(token);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            String url = String.format("%s/repos/%s/%s/commits/%s", 
-                GITHUB_API_BASE_URL, owner, repo, sha);
+            String url = String.format("%s/repos/%s/%s/git/trees/%s?recursive=1", 
+                GITHUB_API_BASE_URL, owner, repo, ref);
             
-            ResponseEntity<String> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                entity,
-                String.class
-            );
-            
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            GitHubCommitDetail commitDetail = new GitHubCommitDetail();
-            
-            commitDetail.setSha(jsonNode.get("sha").asText());
-            
-            JsonNode commitInfo = jsonNode.get("commit");
-            commitDetail.setMessage(commitInfo.get("message").asText());
-            
-            JsonNode author = commitInfo.get("author");
-            commitDetail.setAuthorName(author.get("name").asText());
-            commitDetail.setAuthorEmail(author.get("email").asText());
-            commitDetail.setDate(author.get("date").asText());
-            
-            JsonNode stats = jsonNode.get("stats");
-            commitDetail.setAdditions(stats.get("additions").asInt());
-            commitDetail.setDeletions(stats.get("deletions").asInt());
-            commitDetail.setTotal(stats.get("total").asInt());
-            
-            // 파일 변경 내용
-            List<GitHubFile> files = new ArrayList<>();
-            JsonNode filesNode = jsonNode.get("files");
-            for (JsonNode fileNode : filesNode) {
-                GitHubFile file = new GitHubFile();
-                file.setFilename(fileNode.get("filename").asText());
-                file.setStatus(fileNode.get("status").asText());
-                file.setAdditions(fileNode.get("additions").asInt());
-                file.setDeletions(fileNode.get("deletions").asInt());
-                file.setChanges(fileNode.get("changes").asInt());
-                
-                if (fileNode.has("patch") && !fileNode.get("patch").isNull()) {
-                    file.setPatch(fileNode.get("patch").asText());
-                }
-                
-                files.add(file);
+            // 트리 목록은 읽기 전용이므로 복사하지 않고 공유
+            GitHubJsonReader.TreeListing tree = getConditional(token, url, jsonReader::readTree, UnaryOperator.identity());
+            if (tree.isTruncated()) {
+                logger.warn("Tree for {}/{}@{} was truncated; missing paths fall back to the Contents API", owner, repo, ref);
             }
-            commitDetail.setFiles(files);
-            
-            return commitDetail;
+            return tree.getBlobShas();
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
-            throw new RuntimeException("커밋 상세 정보를 가져오는데 실패했습니다: " + e.getMessage());
+            throw new RuntimeException("트리 정보를 가져오는데 실패했습니다: " + e.getMessage());
         }
     }
     
     /**
-     * 파일의 현재 내용을 가져옵니다.
+     * blob SHA로 파일 내용을 가져옵니다 (Contents API가 거부하는 1MB 이상 파일도 조회 가능).
+     * 캐시 적중 시 GitHub를 호출하지 않으므로, 호출 전에 같은 토큰으로 트리를 조회해 접근 권한이 확인되어야 합니다.
      */
-    public String getFileContent(String token, String owner, String repo, String path, String branch) {
+    public String getBlobContent(String token, String owner, String repo, String blobSha) {
+        String cached = blobCache.get(owner, repo, blobSha);
+        if (cached != null) {
+            return cached;
+        }
+        
         try {
             HttpHeaders headers = createHeaders(token);
+            // raw 미디어 타입으로 요청하면 Base64/JSON 없이 원본 바이트를 그대로 받음
+            headers.set("Accept", "application/vnd.github.raw+json");
             HttpEntity<String> entity = new HttpEntity<>(headers);
             
-            String url = String.format("%s/repos/%s/%s/contents/%s?ref=%s", 
-                GITHUB_API_BASE_URL, owner, repo, path, branch);
+            String url = String.format("%s/repos/%s/%s/git/blobs/%s", 
+                GITHUB_API_BASE_URL, owner, repo, blobSha);
             
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<byte[]> response = restTemplate.exchange(
                 url,
                 HttpMethod.GET,
                 entity,
-                String.class
+                byte[].class
             );
             
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            String encodedContent = jsonNode.get("content").asText();
-            
-            // Base64 디코딩
-            byte[] decodedBytes = Base64.getDecoder().decode(encodedContent.replaceAll("\\s", ""));
-            return new String(decodedBytes);
+            byte[] body = response.getBody();
+            String content = body != null ? new String(body, StandardCharsets.UTF_8) : "";
+            blobCache.put(owner, repo, blobSha, content);
+            return content;
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("파일 내용을 가져오는데 실패했습니다: " + e.getMessage());
         }
@@ -314,6 +526,8 @@ public class GitHubService {
             
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
             return jsonNode.get("sha").asText();
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("파일 SHA를 가져오는데 실패했습니다: " + e.getMessage());
         }
@@ -345,6 +559,8 @@ public class GitHubService {
                 entity,
                 String.class
             );
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("파일 업데이트에 실패했습니다: " + e.getMessage());
         }
@@ -369,6 +585,8 @@ public class GitHubService {
             updateBranchReference(token, owner, repo, branch, commitSha);
             
             return commitSha;
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("다중 파일 커밋에 실패했습니다: " + e.getMessage());
         }
@@ -391,6 +609,8 @@ public class GitHubService {
             
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
             return jsonNode.get("object").get("sha").asText();
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("최신 커밋 SHA를 가져오는데 실패했습니다: " + e.getMessage());
         }
@@ -430,6 +650,8 @@ public class GitHubService {
             
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
             return jsonNode.get("sha").asText();
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Tree 생성에 실패했습니다: " + e.getMessage());
         }
@@ -460,6 +682,8 @@ public class GitHubService {
             
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
             return jsonNode.get("sha").asText();
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("커밋 생성에 실패했습니다: " + e.getMessage());
         }
@@ -486,6 +710,8 @@ public class GitHubService {
                 entity,
                 String.class
             );
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("브랜치 업데이트에 실패했습니다: " + e.getMessage());
         }
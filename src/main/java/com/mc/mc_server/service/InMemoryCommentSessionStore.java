@@ -0,0 +1,95 @@
+package com.mc.mc_server.service;
+
+import com.mc.mc_server.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 힙에 세션을 보관하는 기본 저장소입니다. 서버를 재시작하면 세션이 사라지며 인스턴스 간에 공유되지 않습니다.
+ * 세션 내용의 추정 크기 합이 한도를 넘으면 가장 오래 사용되지 않은 세션부터 제거합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "comment.session.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryCommentSessionStore implements CommentSessionStore {
+    
+    private final LruCache<String, CommentSessionService.SessionData> sessions;
+    
+    // 생성 순서대로 쌓이는 큐 (TTL이 모두 같으므로 생성 순서가 곧 만료 순서)
+    // 정리 작업은 앞에서부터 만료된 항목만 꺼내므로 전체 세션을 훑지 않음
+    private final Queue<Expiry> expiryQueue = new ConcurrentLinkedQueue<>();
+    
+    public InMemoryCommentSessionStore(@Value("${comment.session.max-bytes:134217728}") long maxBytes) {
+        this.sessions = new LruCache<>(maxBytes, CommentSessionService.SessionData::getSizeBytes);
+    }
+    
+    private static class Expiry {
+        final String sessionId;
+        final long createdAt;
+        
+        Expiry(String sessionId, long createdAt) {
+            this.sessionId = sessionId;
+            this.createdAt = createdAt;
+        }
+    }
+    
+    @Override
+    public void save(String sessionId, CommentSessionService.SessionData sessionData) {
+        checkSize(sessionData);
+        sessions.put(sessionId, sessionData);
+        expiryQueue.add(new Expiry(sessionId, sessionData.getCreatedAt()));
+    }
+    
+    @Override
+    public CommentSessionService.SessionData find(String sessionId) {
+        return sessions.get(sessionId);
+    }
+    
+    @Override
+    public boolean replace(String sessionId, long expectedVersion, CommentSessionService.SessionData sessionData) {
+        checkSize(sessionData);
+        // 크기가 바뀌므로 교체하여 다시 계산 (그 사이 삭제되거나 변경된 세션은 덮어쓰지 않음)
+        return sessions.replaceIf(sessionId, current -> current.getVersion() == expectedVersion, sessionData);
+    }
+    
+    @Override
+    public void delete(String sessionId) {
+        sessions.remove(sessionId);
+    }
+    
+    @Override
+    public int deleteCreatedBefore(long cutoffMillis) {
+        int removed = 0;
+        Expiry expiry;
+        while ((expiry = expiryQueue.peek()) != null && expiry.createdAt <= cutoffMillis) {
+            expiryQueue.poll();
+            // 이미 삭제된 세션은 건너뜀
+            if (sessions.removeIf(expiry.sessionId, sessionData -> sessionData.getCreatedAt() <= cutoffMillis)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+    
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("store", "memory");
+        stats.put("sessions", sessions.size());
+        stats.put("bytes", sessions.getWeight());
+        stats.put("maxBytes", sessions.getMaxWeight());
+        stats.put("evictions", sessions.getEvictions());
+        return stats;
+    }
+    
+    private void checkSize(CommentSessionService.SessionData sessionData) {
+        if (sessionData.getSizeBytes() > sessions.getMaxWeight()) {
+            throw new RuntimeException("변경된 파일 내용이 너무 커서 세션에 저장할 수 없습니다. 파일 수를 줄여 다시 시도해주세요.");
+        }
+    }
+}
@@ -1,22 +1,34 @@
 package com.mc.mc_server.service;
 
 import com.mc.mc_server.dto.SaveRepositoryRequest;
+import com.mc.mc_server.dto.SavedRepositoryPageResponse;
 import com.mc.mc_server.dto.SavedRepositoryResponse;
 import com.mc.mc_server.entity.SavedRepository;
 import com.mc.mc_server.entity.User;
 import com.mc.mc_server.repository.SavedRepositoryRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class SavedRepositoryService {
     
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    
     @Autowired
     private SavedRepositoryRepository savedRepositoryRepository;
     
@@ -24,11 +36,6 @@ public class SavedRepositoryService {
      * 레포지토리 저장
      */
     public SavedRepositoryResponse saveRepository(User user, SaveRepositoryRequest request) {
-        // 이미 저장된 레포지토리인지 확인
-        if (savedRepositoryRepository.existsByUserAndRepositoryId(user, request.getRepositoryId())) {
-            throw new RuntimeException("이미 저장된 레포지토리입니다.");
-        }
-        
         SavedRepository savedRepository = new SavedRepository(
             user,
             request.getRepositoryId(),
@@ -42,19 +49,76 @@ public class SavedRepositoryService {
             request.getRepositoryUpdatedAt()
         );
         
-        SavedRepository saved = savedRepositoryRepository.save(savedRepository);
-        return new SavedRepositoryResponse(saved);
+        // 중복 여부는 (user_id, repository_id) 유니크 제약으로 INSERT 한 번에 판단
+        try {
+            SavedRepository saved = savedRepositoryRepository.saveAndFlush(savedRepository);
+            return new SavedRepositoryResponse(saved);
+        } catch (DataIntegrityViolationException e) {
+            // NOT NULL, 길이 초과 등 다른 제약 위반은 중복 저장이 아니므로 그대로 던짐
+            if (violatesConstraint(e, SavedRepository.UNIQUE_USER_REPOSITORY)) {
+                throw new RuntimeException("이미 저장된 레포지토리입니다.");
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * 위반된 제약 이름을 확인합니다. Hibernate가 제약 이름을 추출하지 못한 경우 드라이버 메시지에서 찾습니다
+     * (PostgreSQL은 소문자, H2는 대문자로 제약 이름을 보고).
+     */
+    private static boolean violatesConstraint(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String text = cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : cause.getMessage();
+            if (text != null && text.toLowerCase(Locale.ROOT).contains(constraintName)) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
-     * 사용자의 저장된 레포지토리 목록 조회
+     * 사용자의 저장된 레포지토리 목록을 커서 기반으로 한 페이지씩 조회
+     * 다음 페이지 존재 여부는 size + 1개를 조회해 판단합니다.
      */
     @Transactional(readOnly = true)
-    public List<SavedRepositoryResponse> getSavedRepositories(User user) {
-        List<SavedRepository> savedRepositories = savedRepositoryRepository.findByUserOrderByCreatedAtDesc(user);
-        return savedRepositories.stream()
-                .map(SavedRepositoryResponse::new)
-                .collect(Collectors.toList());
+    public SavedRepositoryPageResponse getSavedRepositories(User user, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+        
+        List<SavedRepositoryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = savedRepositoryRepository.findFirstPage(user, limit);
+        } else {
+            Cursor position = decodeCursor(cursor);
+            rows = savedRepositoryRepository.findPageAfter(user, position.createdAt, position.id, limit);
+        }
+        
+        if (rows.size() <= pageSize) {
+            return new SavedRepositoryPageResponse(rows, null);
+        }
+        List<SavedRepositoryResponse> items = rows.subList(0, pageSize);
+        SavedRepositoryResponse last = items.get(pageSize - 1);
+        return new SavedRepositoryPageResponse(new ArrayList<>(items), encodeCursor(last.getSavedAt(), last.getId()));
+    }
+    
+    private record Cursor(LocalDateTime createdAt, Long id) {}
+    
+    // 커서는 "저장일|id"를 URL-safe Base64로 인코딩한 값
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
     }
     
     /**
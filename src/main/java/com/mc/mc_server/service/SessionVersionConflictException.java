@@ -0,0 +1,18 @@
+package com.mc.mc_server.service;
+
+/**
+ * 세션을 수정하는 동안 다른 요청이 먼저 세션을 변경했을 때 발생합니다.
+ */
+public class SessionVersionConflictException extends RuntimeException {
+
+    private final long currentVersion;
+
+    public SessionVersionConflictException(long currentVersion) {
+        super("세션이 다른 요청에 의해 변경되었습니다. 최신 내용(버전 " + currentVersion + ")을 다시 불러와 수정해주세요.");
+        this.currentVersion = currentVersion;
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -1,26 +1,33 @@
 package com.mc.mc_server.service;
 
+import com.mc.mc_server.config.PasswordHashingBusyException;
 import com.mc.mc_server.dto.AuthResponse;
 import com.mc.mc_server.dto.LoginRequest;
 import com.mc.mc_server.dto.SignupRequest;
 import com.mc.mc_server.entity.User;
 import com.mc.mc_server.repository.UserRepository;
 import com.mc.mc_server.util.JwtUtil;
+import com.mc.mc_server.util.LruCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
     
     @Autowired
     private UserRepository userRepository;
@@ -36,12 +43,39 @@ public class UserService implements UserDetailsService {
     @Lazy
     private AuthenticationManager authenticationManager;
     
+    @Value("${auth.principal-cache.ttl:30s}")
+    private Duration principalCacheTtl;
+    
+    // 인증 필터에서 매 요청마다 DB를 조회하지 않도록 이메일별 사용자를 잠시 보관
+    // (다른 인스턴스에서 변경된 내용은 TTL이 지나야 반영됨)
+    private final LruCache<String, CachedPrincipal> principalCache = LruCache.ofMaxEntries(10000);
+    
+    private static class CachedPrincipal {
+        final User user;
+        final long expiresAt;
+        
+        CachedPrincipal(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+    
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
     }
     
+    /**
+     * 로그인 성공 후 저장된 해시의 cost가 현재 설정보다 낮으면 호출되어 새 해시로 교체합니다.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = findByEmail(userDetails.getUsername());
+        user.setPassword(newPassword);
+        return saveUser(user);
+    }
+    
     public AuthResponse signup(SignupRequest request) {
         // 이메일 중복 체크
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -77,6 +111,8 @@ public class UserService implements UserDetailsService {
             String token = jwtUtil.generateToken(userDetails);
             
             return new AuthResponse(token, "로그인 성공", user.getGithubToken());
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("로그인에 실패했습니다. 이메일과 비밀번호를 확인해주세요.");
         }
@@ -87,6 +123,32 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
     }
     
+    /**
+     * 인증된 요청의 사용자를 조회합니다. 짧은 TTL 동안 캐시된 사용자를 재사용하며,
+     * 사용자 정보가 저장되면 해당 항목은 즉시 제거됩니다.
+     * 반환된 객체는 여러 요청이 공유하므로 수정하지 말고, 수정이 필요하면 findByEmail을 사용하세요.
+     */
+    public User loadPrincipal(String email) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principalCache.get(email);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.user;
+        }
+        
+        User user = findByEmail(email);
+        principalCache.put(email, new CachedPrincipal(user, now + principalCacheTtl.toMillis()));
+        return user;
+    }
+    
+    public Map<String, Object> getPrincipalCacheStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("entries", principalCache.size());
+        stats.put("hits", principalCache.getHits());
+        stats.put("misses", principalCache.getMisses());
+        stats.put("evictions", principalCache.getEvictions());
+        return stats;
+    }
+    
     public boolean validateToken(String token) {
         return jwtUtil.validateToken(token);
     }
@@ -100,6 +162,9 @@ public class UserService implements UserDetailsService {
     }
     
     public User saveUser(User user) {
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        // GitHub 토큰 변경 등이 다음 요청부터 바로 반영되도록 캐시 제거
+        principalCache.remove(savedUser.getEmail());
+        return savedUser;
     }
 }
@@ -7,6 +7,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -15,14 +16,19 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
     
-    @Value("${jwt.secret}")
-    private String secret;
+    private final Long expiration;
     
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    // 서명 키와 파서는 생성 비용이 크고 스레드 안전하므로 한 번만 만들어 재사용
+    private final SecretKey signingKey;
+    private final JwtParser parser;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    public JwtUtil(@Value("${jwt.secret}") String secret, 
+                   @Value("${jwt.expiration}") Long expiration) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
     
     public String extractUsername(String token) {
@@ -38,16 +44,22 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
     
+    /**
+     * 서명과 만료 시간을 검증하고 클레임을 반환합니다 (한 번만 파싱).
+     * 유효하지 않거나 만료된 토큰이면 JwtException을 던집니다.
+     * 같은 요청에서 여러 클레임이 필요하면 반환된 Claims를 재사용하세요.
+     */
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
+    }
+    
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
     
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static boolean isExpired(Claims claims) {
+        Date expirationDate = claims.getExpiration();
+        return expirationDate != null && expirationDate.before(new Date());
     }
     
     public String generateToken(UserDetails userDetails) {
@@ -61,19 +73,18 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
     
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims));
     }
     
     public Boolean validateToken(String token) {
         try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
+            return !isExpired(extractAllClaims(token));
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
@@ -0,0 +1,135 @@
+package com.mc.mc_server.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * 여러 키워드를 문자열 한 번 순회로 찾는 Aho-Corasick 오토마톤입니다.
+ * 각 키워드는 생성 시 전달한 순서대로 비트 번호(0~63)를 가지며, 결과는 비트 마스크로 반환합니다.
+ * 키워드는 ASCII 문자만 허용합니다. ASCII가 아닌 문자는 어떤 키워드에도 포함될 수 없으므로 루트로 돌아갑니다.
+ * 생성 후에는 불변이므로 여러 스레드에서 공유해도 됩니다.
+ */
+public final class KeywordMatcher {
+
+    private static final int ALPHABET = 128;
+
+    private final int[][] transitions;
+    private final int[] depth;
+    private final long[] exact;   // 이 상태까지의 경로와 정확히 같은 키워드
+    private final long[] output;  // 이 상태에서 끝나는 모든 키워드 (실패 링크 포함)
+
+    /**
+     * 한 번의 검색 결과.
+     * contained: 문자열 어딘가에 포함된 키워드, prefixes: 문자열이 그 키워드로 시작하는 경우
+     */
+    public record Matches(long contained, long prefixes) {
+
+        public boolean contains(long mask) {
+            return (contained & mask) != 0;
+        }
+
+        public boolean startsWith(long mask) {
+            return (prefixes & mask) != 0;
+        }
+    }
+
+    public KeywordMatcher(List<String> keywords) {
+        if (keywords.size() > Long.SIZE) {
+            throw new IllegalArgumentException("키워드는 최대 " + Long.SIZE + "개까지 지원합니다: " + keywords.size());
+        }
+
+        // 1. 키워드 트라이 구성
+        List<int[]> trie = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        List<Long> exacts = new ArrayList<>();
+        trie.add(newNode());
+        depths.add(0);
+        exacts.add(0L);
+
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            if (keyword.isEmpty()) {
+                throw new IllegalArgumentException("빈 키워드는 사용할 수 없습니다.");
+            }
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                if (c >= ALPHABET) {
+                    throw new IllegalArgumentException("ASCII 키워드만 지원합니다: " + keyword);
+                }
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newNode());
+                    depths.add(i + 1);
+                    exacts.add(0L);
+                }
+                state = trie.get(state)[c];
+            }
+            exacts.set(state, exacts.get(state) | (1L << k));
+        }
+
+        int size = trie.size();
+        this.transitions = trie.toArray(new int[0][]);
+        this.depth = depths.stream().mapToInt(Integer::intValue).toArray();
+        this.exact = exacts.stream().mapToLong(Long::longValue).toArray();
+        this.output = Arrays.copyOf(exact, size);
+
+        // 2. 너비 우선으로 실패 링크를 계산하면서 전이 테이블을 완전한 DFA로 채움
+        int[] fail = new int[size];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = transitions[0][c];
+            if (next < 0) {
+                transitions[0][c] = 0;
+            } else {
+                fail[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            output[state] |= output[fail[state]];
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = transitions[state][c];
+                if (next < 0) {
+                    transitions[state][c] = transitions[fail[state]][c];
+                } else {
+                    fail[next] = transitions[fail[state]][c];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    public Matches match(String text) {
+        return match(text, 0, text.length());
+    }
+
+    /**
+     * text[begin, end) 구간을 한 번 순회하며 포함된 키워드와 시작 키워드를 찾습니다.
+     */
+    public Matches match(String text, int begin, int end) {
+        long contained = 0;
+        long prefixes = 0;
+        int state = 0;
+        for (int i = begin; i < end; i++) {
+            char c = text.charAt(i);
+            state = c < ALPHABET ? transitions[state][c] : 0;
+            contained |= output[state];
+            // 실패 링크를 한 번도 타지 않았다면 현재 경로가 곧 구간의 접두사
+            if (depth[state] == i - begin + 1) {
+                prefixes |= exact[state];
+            }
+        }
+        return new Matches(contained, prefixes);
+    }
+
+    private static int[] newNode() {
+        int[] node = new int[ALPHABET];
+        Arrays.fill(node, -1);
+        return node;
+    }
+}
@@ -0,0 +1,118 @@
+package com.mc.mc_server.util;
+
+/**
+ * 문자열을 '\n' 기준 줄 단위로 순회합니다. 줄마다 String을 만들지 않고 원본에서의 위치(start, end)만 알려줍니다.
+ * 줄 구분은 {@code text.split("\n")}과 같습니다: 끝에 이어지는 빈 줄은 제외하고, 빈 문자열은 빈 줄 하나로 봅니다.
+ *
+ * <pre>
+ * LineScanner lines = new LineScanner(content);
+ * while (lines.next()) {
+ *     out.append(content, lines.start(), lines.end()).append('\n');
+ * }
+ * </pre>
+ */
+public final class LineScanner {
+
+    private final String text;
+    private final int limit;
+
+    private int start;
+    private int end = -1;
+    private int lineNumber;
+
+    public LineScanner(String text) {
+        this.text = text;
+        // split과 같이 끝부분의 빈 줄(연속된 '\n')은 순회하지 않음
+        int limit = text.length();
+        while (limit > 0 && text.charAt(limit - 1) == '\n') {
+            limit--;
+        }
+        this.limit = limit;
+        if (limit == 0 && !text.isEmpty()) {
+            // "\n"만으로 이루어진 문자열은 split 결과가 빈 배열
+            this.end = limit;
+        }
+    }
+
+    /**
+     * 다음 줄로 이동합니다. 더 이상 줄이 없으면 false를 반환합니다.
+     */
+    public boolean next() {
+        if (end >= limit) {
+            return false;
+        }
+        start = end + 1;
+        int newline = text.indexOf('\n', start);
+        end = newline < 0 || newline > limit ? limit : newline;
+        lineNumber++;
+        return true;
+    }
+
+    /** 현재 줄의 시작 위치 (포함) */
+    public int start() {
+        return start;
+    }
+
+    /** 현재 줄의 끝 위치 (제외, '\n' 미포함) */
+    public int end() {
+        return end;
+    }
+
+    /** 현재 줄 번호 (1부터 시작) */
+    public int lineNumber() {
+        return lineNumber;
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    public boolean isEmpty() {
+        return end == start;
+    }
+
+    public char charAt(int index) {
+        return text.charAt(start + index);
+    }
+
+    public boolean startsWith(String prefix) {
+        return prefix.length() <= length() && text.startsWith(prefix, start);
+    }
+
+    /**
+     * 앞쪽 공백(String.trim() 기준)을 건너뛴 위치에서 prefix로 시작하는지 확인합니다.
+     */
+    public boolean startsWithAfterWhitespace(String prefix) {
+        int index = start;
+        while (index < end && text.charAt(index) <= ' ') {
+            index++;
+        }
+        return prefix.length() <= end - index && text.startsWith(prefix, index);
+    }
+
+    /** 현재 줄의 내용이 other와 같은지 확인합니다. */
+    public boolean contentEquals(String other) {
+        return other.length() == length() && text.startsWith(other, start);
+    }
+
+    /** 현재 줄을 String으로 만듭니다. 꼭 필요한 경우에만 사용하세요. */
+    public String line() {
+        return text.substring(start, end);
+    }
+
+    public StringBuilder appendTo(StringBuilder builder) {
+        return builder.append(text, start, end);
+    }
+
+    /**
+     * 아직 순회하지 않은 나머지 줄을 각 줄 끝에 '\n'을 붙여 한 번에 덧붙이고 순회를 끝냅니다.
+     * next()로 끝까지 순회하며 appendTo(...).append('\n')을 호출한 것과 결과가 같습니다.
+     */
+    public StringBuilder appendRemainingTo(StringBuilder builder) {
+        if (end < limit) {
+            builder.append(text, end + 1, limit).append('\n');
+            end = limit;
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,119 @@
+package com.mc.mc_server.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 가중치(바이트 수, 항목 수 등) 기준으로 크기가 제한되는 LRU 캐시입니다.
+ * 가장 오래 사용되지 않은 항목부터 제거하며, 적중/미스/제거 횟수를 집계합니다.
+ */
+public class LruCache<K, V> {
+    
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentWeight;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    public LruCache(long maxWeight, ToLongFunction<V> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+    
+    /**
+     * 항목 수 기준으로 제한되는 캐시를 생성합니다.
+     */
+    public static <K, V> LruCache<K, V> ofMaxEntries(int maxEntries) {
+        return new LruCache<>(maxEntries, value -> 1L);
+    }
+    
+    public synchronized V get(K key) {
+        V value = entries.get(key);
+        if (value == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return value;
+    }
+    
+    public synchronized void put(K key, V value) {
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxWeight) {
+            // 캐시 전체보다 큰 항목은 저장하지 않음
+            remove(key);
+            return;
+        }
+        
+        V previous = entries.put(key, value);
+        if (previous != null) {
+            currentWeight -= weigher.applyAsLong(previous);
+        }
+        currentWeight += weight;
+        
+        Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+        while (currentWeight > maxWeight && iterator.hasNext()) {
+            Map.Entry<K, V> eldest = iterator.next();
+            currentWeight -= weigher.applyAsLong(eldest.getValue());
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+    
+    /**
+     * 키의 현재 값이 조건을 만족할 때만 값을 교체합니다. 교체된 항목은 가장 최근 사용으로 취급됩니다.
+     */
+    public synchronized boolean replaceIf(K key, Predicate<V> condition, V value) {
+        V current = entries.get(key);
+        if (current == null || !condition.test(current)) {
+            return false;
+        }
+        put(key, value);
+        return entries.containsKey(key);
+    }
+    
+    /**
+     * 키의 현재 값이 조건을 만족할 때만 제거합니다. 적중/미스 통계에는 포함되지 않습니다.
+     */
+    public synchronized boolean removeIf(K key, Predicate<V> condition) {
+        V value = entries.get(key);
+        if (value == null || !condition.test(value)) {
+            return false;
+        }
+        remove(key);
+        return true;
+    }
+    
+    public synchronized V remove(K key) {
+        V removed = entries.remove(key);
+        if (removed != null) {
+            currentWeight -= weigher.applyAsLong(removed);
+        }
+        return removed;
+    }
+    
+    public synchronized void clear() {
+        entries.clear();
+        currentWeight = 0;
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    public synchronized long getWeight() {
+        return currentWeight;
+    }
+    
+    public long getMaxWeight() { return maxWeight; }
+    public long getHits() { return hits.get(); }
+    public long getMisses() { return misses.get(); }
+    public long getEvictions() { return evictions.get(); }
+}
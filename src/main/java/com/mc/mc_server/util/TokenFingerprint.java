@@ -0,0 +1,24 @@
+package com.mc.mc_server.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * GitHub 토큰을 캐시 키 등으로 사용할 때 원문 대신 사용할 지문(SHA-256 앞부분)을 만듭니다.
+ */
+public final class TokenFingerprint {
+    
+    private TokenFingerprint() {}
+    
+    public static String of(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.mc.mc_server.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * unified diff 형식(git diff, GitHub patch)의 hunk를 파싱하고 원본 줄 목록에 적용합니다.
+ * 파일 헤더(---, +++, diff, index)는 무시하며 한 파일에 대한 diff만 다룹니다.
+ */
+public final class UnifiedDiff {
+
+    private static final Pattern HUNK_HEADER = Pattern.compile("^@@ -(\\d+)(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@.*");
+
+    private UnifiedDiff() {}
+
+    /**
+     * 하나의 변경 구간. lines의 각 줄은 ' '(문맥), '-'(삭제), '+'(추가) 접두사를 유지합니다.
+     */
+    public static class Hunk {
+        private final int oldStart;
+        private final int oldCount;
+        private final int newStart;
+        private final int newCount;
+        private final List<String> lines = new ArrayList<>();
+
+        Hunk(int oldStart, int oldCount, int newStart, int newCount) {
+            this.oldStart = oldStart;
+            this.oldCount = oldCount;
+            this.newStart = newStart;
+            this.newCount = newCount;
+        }
+
+        public int getOldStart() { return oldStart; }
+        public int getOldCount() { return oldCount; }
+        public int getNewStart() { return newStart; }
+        public int getNewCount() { return newCount; }
+        public List<String> getLines() { return lines; }
+    }
+
+    /**
+     * diff 문자열에서 hunk들을 읽습니다. hunk 안의 빈 줄은 (편집기 등에서 끝 공백 ' '가 지워진) 빈 문맥 줄로 봅니다.
+     * 각 hunk의 문맥/삭제/추가 줄 수가 헤더의 줄 수와 다르면 IllegalArgumentException을 던집니다.
+     */
+    public static List<Hunk> parse(String diff) {
+        String[] lines = diff.split("\n", -1);
+        // 마지막 '\n' 뒤의 빈 문자열은 줄이 아님
+        int lineCount = diff.endsWith("\n") ? lines.length - 1 : lines.length;
+
+        List<Hunk> hunks = new ArrayList<>();
+        Hunk current = null;
+        int remainingOld = 0;
+        int remainingNew = 0;
+        for (int i = 0; i < lineCount; i++) {
+            String line = lines[i];
+            Matcher header = HUNK_HEADER.matcher(line);
+            if (header.matches()) {
+                checkComplete(current, remainingOld, remainingNew);
+                current = new Hunk(
+                    Integer.parseInt(header.group(1)),
+                    header.group(2) == null ? 1 : Integer.parseInt(header.group(2)),
+                    Integer.parseInt(header.group(3)),
+                    header.group(4) == null ? 1 : Integer.parseInt(header.group(4))
+                );
+                hunks.add(current);
+                remainingOld = current.oldCount;
+                remainingNew = current.newCount;
+                continue;
+            }
+            if (current == null || line.startsWith("\\")) {
+                // 첫 hunk 이전의 파일 헤더, '\ No newline at end of file'은 줄 수에 포함되지 않음
+                continue;
+            }
+
+            char marker = line.isEmpty() ? ' ' : line.charAt(0);
+            if (remainingOld == 0 && remainingNew == 0) {
+                // hunk가 끝난 뒤에는 빈 줄과 파일 헤더만 허용
+                if (line.isEmpty() || isFileHeader(line) || (marker != ' ' && marker != '-' && marker != '+')) {
+                    continue;
+                }
+                throw countMismatch(current);
+            }
+            if (marker == ' ') {
+                remainingOld--;
+                remainingNew--;
+            } else if (marker == '-') {
+                remainingOld--;
+            } else if (marker == '+') {
+                remainingNew--;
+            } else {
+                throw countMismatch(current);
+            }
+            if (remainingOld < 0 || remainingNew < 0) {
+                throw countMismatch(current);
+            }
+            current.lines.add(line.isEmpty() ? " " : line);
+        }
+        checkComplete(current, remainingOld, remainingNew);
+        return hunks;
+    }
+
+    private static boolean isFileHeader(String line) {
+        return line.startsWith("--- ") || line.startsWith("+++ ") || line.startsWith("diff ") || line.startsWith("index ");
+    }
+
+    private static void checkComplete(Hunk hunk, int remainingOld, int remainingNew) {
+        if (hunk != null && (remainingOld != 0 || remainingNew != 0)) {
+            throw countMismatch(hunk);
+        }
+    }
+
+    private static IllegalArgumentException countMismatch(Hunk hunk) {
+        return new IllegalArgumentException("hunk의 줄 수가 헤더와 일치하지 않습니다: @@ -" + hunk.oldStart + "," + hunk.oldCount
+            + " +" + hunk.newStart + "," + hunk.newCount + " @@");
+    }
+
+    /**
+     * 변경 후 파일에 추가된 줄. lineNumber는 변경 후 파일 기준(1부터 시작)입니다.
+     */
+    public static class AddedLine {
+        private final int lineNumber;
+        private final String text;
+
+        AddedLine(int lineNumber, String text) {
+            this.lineNumber = lineNumber;
+            this.text = text;
+        }
+
+        public int getLineNumber() { return lineNumber; }
+        public String getText() { return text; }
+    }
+
+    /**
+     * hunk 헤더의 +c 위치부터 문맥/추가 줄을 세어 추가된 줄의 변경 후 줄 번호를 계산합니다.
+     * 결과는 줄 번호 오름차순이며, 비용은 diff 크기에만 비례합니다.
+     */
+    public static List<AddedLine> addedLines(List<Hunk> hunks) {
+        List<AddedLine> added = new ArrayList<>();
+        for (Hunk hunk : hunks) {
+            int lineNumber = hunk.newStart;
+            for (String line : hunk.lines) {
+                char marker = line.charAt(0);
+                if (marker == '+') {
+                    added.add(new AddedLine(lineNumber, line.substring(1)));
+                    lineNumber++;
+                } else if (marker == ' ') {
+                    lineNumber++;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * hunk들을 원본 줄 목록에 순서대로 적용한 결과를 반환합니다.
+     * 문맥 줄이나 삭제할 줄이 원본과 다르면 IllegalArgumentException을 던집니다.
+     */
+    public static List<String> apply(List<String> original, List<Hunk> hunks) {
+        List<String> result = new ArrayList<>(original.size());
+        int position = 0;
+
+        for (Hunk hunk : hunks) {
+            // 삭제/문맥 줄이 없는 hunk는 oldStart 줄 "다음"에 삽입
+            int start = hunk.oldCount == 0 ? hunk.oldStart : hunk.oldStart - 1;
+            if (start < position || start > original.size()) {
+                throw new IllegalArgumentException("diff의 변경 위치가 올바르지 않습니다: -" + hunk.oldStart);
+            }
+            result.addAll(original.subList(position, start));
+            position = start;
+
+            for (String line : hunk.lines) {
+                char marker = line.charAt(0);
+                String text = line.substring(1);
+                if (marker == '+') {
+                    result.add(text);
+                    continue;
+                }
+                if (position >= original.size() || !original.get(position).equals(text)) {
+                    throw new IllegalArgumentException("diff가 현재 내용과 일치하지 않습니다 (" + (position + 1) + "번째 줄)");
+                }
+                if (marker == ' ') {
+                    result.add(text);
+                }
+                position++;
+            }
+        }
+
+        result.addAll(original.subList(position, original.size()));
+        return result;
+    }
+}
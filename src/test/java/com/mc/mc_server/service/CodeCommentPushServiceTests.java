@@ -0,0 +1,148 @@
+package com.mc.mc_server.service;
+
+import com.mc.mc_server.dto.CommentPreviewResponse.FileCommentPreview.CommentItem;
+import com.mc.mc_server.dto.GitHubCommitDetail;
+import com.mc.mc_server.dto.GitHubFile;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CodeCommentPushServiceTests {
+
+	private static final String METHOD_COMMENT = "새 기능: // 메서드 정의";
+
+	// 커밋에서 b()와 d()를 추가한 뒤의 파일
+	private static final String CONTENT = String.join("\n",
+		"class A {",
+		"    int a;",
+		"    public void b() {",
+		"    }",
+		"",
+		"    int c;",
+		"    public void d() {",
+		"    }",
+		"}",
+		"");
+
+	private static final String PATCH = String.join("\n",
+		"@@ -1,3 +1,5 @@",
+		" class A {",
+		"     int a;",
+		"+    public void b() {",
+		"+    }",
+		" ",
+		"@@ -4,2 +6,4 @@",
+		"     int c;",
+		"+    public void d() {",
+		"+    }",
+		" }",
+		"");
+
+	private final CodeCommentPushService service =
+		new CodeCommentPushService(null, new CodeCommentService(), null, null);
+
+	@Test
+	void commentsAddedLinesInEveryHunk() {
+		CodeCommentPushService.FileCommentResult result = apply(CONTENT, PATCH);
+
+		assertEquals(String.join("\n",
+			"class A {",
+			"    int a;",
+			"    public void b() {",
+			"    // " + METHOD_COMMENT,
+			"    }",
+			"",
+			"    int c;",
+			"    public void d() {",
+			"    // " + METHOD_COMMENT,
+			"    }",
+			"}",
+			""), result.commentedContent);
+		assertEquals(List.of(3, 7), lineNumbers(result.addedComments));
+		assertEquals("public void d() {", result.addedComments.get(1).getCodeLine());
+	}
+
+	@Test
+	void commentsAddedLastLineWithoutTrailingNewline() {
+		String content = "class A {\n}\npublic void x() {}";
+		String patch = String.join("\n",
+			"@@ -0,0 +1,3 @@",
+			"+class A {",
+			"+}",
+			"+public void x() {}",
+			"\\ No newline at end of file");
+
+		CodeCommentPushService.FileCommentResult result = apply(content, patch);
+
+		// 기존 줄 단위 복사와 같이 모든 줄은 '\n'으로 끝남
+		assertEquals(String.join("\n",
+			"class A {",
+			"// 새 기능: // 새로운 클래스 정의",
+			"}",
+			"public void x() {}",
+			"// " + METHOD_COMMENT,
+			""), result.commentedContent);
+		assertEquals(List.of(1, 3), lineNumbers(result.addedComments));
+	}
+
+	@Test
+	void skipsAddedLinesMovedByLaterBranchCommits() {
+		// 커밋 이후 브랜치 맨 앞에 한 줄이 추가되어 모든 줄 번호가 하나씩 밀림
+		String moved = "package a;\n" + CONTENT;
+
+		CodeCommentPushService.FileCommentResult result = apply(moved, PATCH);
+
+		assertEquals(moved, result.commentedContent);
+		assertEquals(List.of(), lineNumbers(result.addedComments));
+	}
+
+	@Test
+	void keepsCommentingHunksBeforeMovedLines() {
+		// 두 hunk 사이에만 줄이 추가된 경우 첫 hunk의 줄에는 그대로 주석을 닮
+		String moved = CONTENT.replace("    int c;\n", "    int z;\n    int c;\n");
+
+		CodeCommentPushService.FileCommentResult result = apply(moved, PATCH);
+
+		assertEquals(List.of(3), lineNumbers(result.addedComments));
+		assertEquals(moved.replace("    public void b() {\n", "    public void b() {\n    // " + METHOD_COMMENT + "\n"),
+			result.commentedContent);
+	}
+
+	@Test
+	void leavesContentUntouchedWithoutAddedLines() {
+		String deletionOnly = String.join("\n",
+			"@@ -1,2 +1,1 @@",
+			" class A {",
+			"-    int removed;",
+			"");
+		String broken = String.join("\n",
+			"@@ -1,3 +1,3 @@",
+			" class A {",
+			"");
+
+		assertSame(CONTENT, apply(CONTENT, deletionOnly).commentedContent);
+		assertSame(CONTENT, apply(CONTENT, broken).commentedContent);
+		assertSame(CONTENT, apply(CONTENT, null).commentedContent);
+	}
+
+	private CodeCommentPushService.FileCommentResult apply(String content, String patch) {
+		GitHubFile file = new GitHubFile();
+		file.setFilename("src/A.java");
+		file.setPatch(patch);
+		GitHubCommitDetail commitDetail = new GitHubCommitDetail();
+		commitDetail.setMessage("feat: add methods");
+		return service.applyCommentsToFileWithDetails(content, file, commitDetail);
+	}
+
+	private static List<Integer> lineNumbers(List<CommentItem> comments) {
+		List<Integer> numbers = new ArrayList<>();
+		for (CommentItem comment : comments) {
+			numbers.add(comment.getLineNumber());
+		}
+		return numbers;
+	}
+}
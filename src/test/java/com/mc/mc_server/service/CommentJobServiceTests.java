@@ -0,0 +1,154 @@
+package com.mc.mc_server.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommentJobServiceTests {
+
+	private static final Long USER = 1L;
+	private static final Long OTHER_USER = 2L;
+
+	private final StubPushService pushService = new StubPushService();
+	private CommentJobService service;
+
+	@AfterEach
+	void tearDown() {
+		pushService.release.countDown();
+		if (service != null) {
+			service.shutdown();
+		}
+	}
+
+	@Test
+	void rejectsSubmitOverPerUserLimit() throws InterruptedException {
+		service = newService(2, 2, 5);
+		CommentJob first = submit(USER);
+		CommentJob second = submit(USER);
+		pushService.awaitStarted(2);
+
+		assertThrows(CommentJobRejectedException.class, () -> submit(USER));
+		// 한도는 사용자별로 적용됨
+		submit(OTHER_USER);
+
+		pushService.release.countDown();
+		await(() -> first.isFinished() && second.isFinished());
+		await(() -> service.getStats().get("activeUsers").equals(0));
+		submit(USER);
+	}
+
+	@Test
+	void cancellingQueuedJobReleasesItsSlot() throws InterruptedException {
+		service = newService(1, 2, 5);
+		CommentJob running = submit(USER);
+		pushService.awaitStarted(1);
+		CommentJob queued = submit(USER);
+		assertThrows(CommentJobRejectedException.class, () -> submit(USER));
+
+		assertTrue(service.cancel(USER, queued.getId()));
+
+		assertEquals(CommentJob.Status.CANCELLED, queued.getStatus());
+		assertEquals(CommentJob.Status.RUNNING, running.getStatus());
+		submit(USER);
+	}
+
+	@Test
+	void refusesCancelAfterPushStarted() throws InterruptedException {
+		service = newService(1, 2, 5);
+		pushService.push = true;
+		CommentJob job = submit(USER);
+		pushService.awaitStarted(1);
+
+		assertFalse(job.isCancellable());
+		assertFalse(service.cancel(USER, job.getId()));
+
+		pushService.release.countDown();
+		await(job::isFinished);
+		assertEquals(CommentJob.Status.SUCCEEDED, job.getStatus());
+		assertEquals("완료", job.getResult());
+	}
+
+	@Test
+	void evictsOldestFinishedJobsOverPerUserLimit() throws InterruptedException {
+		service = newService(1, 5, 2);
+		pushService.release.countDown();
+		// 완료 시각(ms)이 겹치지 않도록 작업 사이에 잠시 쉼
+		CommentJob oldest = submit(USER);
+		await(oldest::isFinished);
+		Thread.sleep(5);
+		CommentJob second = submit(USER);
+		await(second::isFinished);
+		Thread.sleep(5);
+		CommentJob newest = submit(USER);
+
+		// 완료 표시 후 작업 스레드가 정리하므로 삭제될 때까지 기다림
+		await(() -> service.getJobs(USER).size() == 2);
+
+		assertThrows(RuntimeException.class, () -> service.getJob(USER, oldest.getId()));
+		assertEquals(second.getId(), service.getJob(USER, second.getId()).getId());
+		assertEquals(newest.getId(), service.getJob(USER, newest.getId()).getId());
+		assertEquals(1L, service.getStats().get("evicted"));
+	}
+
+	private CommentJobService newService(int threads, int perUserLimit, int maxFinishedPerUser) {
+		return new CommentJobService(pushService, null, threads, 4, perUserLimit,
+			Duration.ofMinutes(10), maxFinishedPerUser, 100);
+	}
+
+	private CommentJob submit(Long userId) {
+		return service.submitApplyAndPush(userId, "token", "owner", "repo", "0123456789abcdef", "main");
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.nanoTime() < deadline, "조건이 충족되지 않음");
+			Thread.sleep(5);
+		}
+	}
+
+	/**
+	 * GitHub를 호출하지 않고 release가 열릴 때까지 작업 스레드를 붙잡아 두는 푸시 서비스.
+	 */
+	private static class StubPushService extends CodeCommentPushService {
+
+		final CountDownLatch release = new CountDownLatch(1);
+		final Semaphore started = new Semaphore(0);
+		volatile boolean push;
+
+		StubPushService() {
+			super(null, null, null, null);
+		}
+
+		@Override
+		public String applyCommentsAndPush(String token, String owner, String repo, String sha, String branch,
+										   ProgressListener listener) {
+			listener.onFileCount(1);
+			listener.onFileProcessed("A.java");
+			if (push) {
+				listener.onPushing();
+			}
+			started.release();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new RuntimeException("작업이 중단되었습니다.");
+			}
+			return "완료";
+		}
+
+		void awaitStarted(int count) throws InterruptedException {
+			assertTrue(started.tryAcquire(count, 5, TimeUnit.SECONDS), "작업이 시작되지 않음");
+		}
+	}
+}
@@ -0,0 +1,214 @@
+package com.mc.mc_server.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 규칙 표로 컴파일한 주석 규칙이 기존 contains/startsWith 연쇄와 같은 결과를 내는지 비교합니다.
+ * legacy* 메서드는 규칙 표 도입 전 CodeCommentService.generate*Comment와
+ * CodeCommentPushService.shouldAddComment를 그대로 옮긴 것입니다.
+ */
+class CommentRulesEquivalenceTests {
+
+	private static final int LINE_COUNT = 500_000;
+
+	private static final List<String> FILENAMES = List.of(
+		"A.java", "a.js", "a.ts", "a.jsx", "a.tsx", "a.py", "a.css", "a.scss", "README.md", "Makefile"
+	);
+
+	// 규칙에 쓰인 키워드와 그 일부, 겹치는 조각, 공백/제어 문자, ASCII가 아닌 문자
+	private static final String[] FRAGMENTS = {
+		"public ", "private ", "private final", "protected ", "class ", "interface ", "@Override",
+		"extends", "Repository", "import ", "List<", "find", "function ", "const ", "let ", "var ", "=>",
+		"useState", "useEffect", "onClick", "onChange", "onSubmit", "def ", "from ", "//", "/*", "#", ".",
+		":", "{", "}", "(", ")", "=", ">", "<", "/", "*", " ", "  ", "\t", "\r", "\u0000", "\u000b",
+		"pub", "priv", "clas", "class", "impor", "use", "private", "Repo", "fro", "de", "le", "con",
+		"한글", "클래스 ", "é", "ü", " ", "　", "😀", "x", "y1", "_", ";", "\"", "'"
+	};
+
+	private final CodeCommentService codeCommentService = new CodeCommentService();
+
+	@Test
+	void matchesLegacyChainsOnRandomLines() {
+		Random random = new Random(20261018L);
+		for (int i = 0; i < LINE_COUNT; i++) {
+			String line = randomLine(random);
+			String filename = FILENAMES.get(random.nextInt(FILENAMES.size()));
+			assertSameComments(line, filename);
+		}
+	}
+
+	@Test
+	void matchesLegacyChainsOnDeclarationSamples() {
+		String[] samples = {
+			"    import java.util.List;",
+			"\t\tpublic List<Order> findByCustomer(Long id) {",
+			"public interface OrderRepository extends JpaRepository<Order, Long> {",
+			"    private final OrderRepository orderRepository;",
+			"  // 주문 조회",
+			"  /* 블록 */",
+			"   # 해시로 시작",
+			"    def run(self):",
+			"  from os import path",
+			"  const handler = () => onClick();",
+			"   .button { color: red; }",
+			"   #header",
+			"   color: red; /* 빨강 */",
+			"한글 class 이름 {",
+			"",
+			"   \t  ",
+		};
+		for (String sample : samples) {
+			for (String filename : FILENAMES) {
+				assertSameComments(sample, filename);
+			}
+		}
+	}
+
+	private void assertSameComments(String line, String filename) {
+		assertEquals(legacyCommentForLine(line, filename), codeCommentService.generateCommentForLine(line, filename),
+			() -> "generateCommentForLine(" + describe(line) + ", " + filename + ")");
+		String legacyTarget = legacyShouldAddComment(line, filename) ? legacyCommentForLine(line.trim(), filename) : null;
+		assertEquals(legacyTarget, codeCommentService.generateCommentIfTarget(line, filename),
+			() -> "generateCommentIfTarget(" + describe(line) + ", " + filename + ")");
+	}
+
+	private static String randomLine(Random random) {
+		StringBuilder line = new StringBuilder();
+		int parts = random.nextInt(8);
+		for (int p = 0; p < parts; p++) {
+			line.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+		}
+		return line.toString();
+	}
+
+	private static String describe(String line) {
+		StringBuilder result = new StringBuilder("\"");
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (c < ' ' || c > '~') {
+				result.append(String.format("\\u%04x", (int) c));
+			} else {
+				result.append(c);
+			}
+		}
+		return result.append('"').toString();
+	}
+
+	private static String legacyCommentForLine(String codeLine, String filename) {
+		String trimmed = codeLine.trim();
+
+		if (trimmed.isEmpty() || trimmed.startsWith("//") || trimmed.startsWith("/*")) {
+			return null;
+		}
+		if (filename.endsWith(".java")) {
+			return legacyJavaComment(trimmed);
+		}
+		if (filename.endsWith(".js") || filename.endsWith(".ts") || filename.endsWith(".jsx") || filename.endsWith(".tsx")) {
+			return legacyJavaScriptComment(trimmed);
+		}
+		if (filename.endsWith(".py")) {
+			return legacyPythonComment(trimmed);
+		}
+		if (filename.endsWith(".css") || filename.endsWith(".scss")) {
+			return legacyCssComment(trimmed);
+		}
+		return "// 코드 수정사항";
+	}
+
+	private static String legacyJavaComment(String codeLine) {
+		if (codeLine.contains("class ") && codeLine.contains("{")) {
+			return "// 새로운 클래스 정의";
+		}
+		if (codeLine.contains("public ") || codeLine.contains("private ") || codeLine.contains("protected ")) {
+			if (codeLine.contains("(") && codeLine.contains(")")) {
+				return "// 메서드 정의";
+			}
+		}
+		if (codeLine.contains("extends") && codeLine.contains("Repository")) {
+			return "// 레포지토리 인터페이스 확장으로 데이터 액세스 기능 추가";
+		}
+		if (codeLine.contains("private final") || codeLine.contains("private ")) {
+			return "// 클래스 멤버 변수 선언";
+		}
+		if (codeLine.startsWith("import ")) {
+			return "// 필요한 라이브러리 import";
+		}
+		if (codeLine.contains("List<") && codeLine.contains("find")) {
+			return "// 특정 조건으로 리스트 조회 메서드 추가";
+		}
+		return "// 코드 로직 추가";
+	}
+
+	private static String legacyJavaScriptComment(String codeLine) {
+		if (codeLine.contains("function ") || codeLine.contains("const ") && codeLine.contains("=>")) {
+			return "// 새로운 함수 정의";
+		}
+		if (codeLine.contains("const ") || codeLine.contains("let ") || codeLine.contains("var ")) {
+			return "// 변수 선언";
+		}
+		if (codeLine.contains("useState") || codeLine.contains("useEffect")) {
+			return "// React 훅 사용";
+		}
+		if (codeLine.contains("onClick") || codeLine.contains("onChange") || codeLine.contains("onSubmit")) {
+			return "// 이벤트 핸들러 정의";
+		}
+		return "// JavaScript 로직 추가";
+	}
+
+	private static String legacyPythonComment(String codeLine) {
+		if (codeLine.startsWith("def ")) {
+			return "# 새로운 함수 정의";
+		}
+		if (codeLine.startsWith("class ")) {
+			return "# 새로운 클래스 정의";
+		}
+		if (codeLine.startsWith("import ") || codeLine.startsWith("from ")) {
+			return "# 필요한 모듈 import";
+		}
+		return "# Python 로직 추가";
+	}
+
+	private static String legacyCssComment(String codeLine) {
+		if (codeLine.startsWith(".")) {
+			return "/* 새로운 CSS 클래스 스타일 */";
+		}
+		if (codeLine.startsWith("#")) {
+			return "/* ID 선택자 스타일 */";
+		}
+		if (codeLine.contains(":") && !codeLine.contains("/*")) {
+			return "/* 스타일 속성 정의 */";
+		}
+		return "/* CSS 스타일 추가 */";
+	}
+
+	private static boolean legacyShouldAddComment(String line, String filename) {
+		String trimmed = line.trim();
+
+		if (trimmed.isEmpty() || trimmed.startsWith("//") || trimmed.startsWith("/*") || trimmed.startsWith("#")) {
+			return false;
+		}
+		if (filename.endsWith(".java")) {
+			return trimmed.contains("public ") ||
+				   trimmed.contains("private ") ||
+				   trimmed.contains("protected ") ||
+				   trimmed.contains("class ") ||
+				   trimmed.contains("interface ") ||
+				   trimmed.contains("@Override") ||
+				   (trimmed.contains("extends") && trimmed.contains("Repository"));
+		}
+		if (filename.endsWith(".js") || filename.endsWith(".ts") || filename.endsWith(".jsx") || filename.endsWith(".tsx")) {
+			return trimmed.startsWith("function ") ||
+				   trimmed.startsWith("const ") ||
+				   trimmed.startsWith("let ") ||
+				   trimmed.contains("=>") ||
+				   trimmed.contains("useState") ||
+				   trimmed.contains("useEffect");
+		}
+		return false;
+	}
+}
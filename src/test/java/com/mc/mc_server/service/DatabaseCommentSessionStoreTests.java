@@ -0,0 +1,101 @@
+package com.mc.mc_server.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "comment.session.store=database")
+@ActiveProfiles("test")
+class DatabaseCommentSessionStoreTests {
+
+	@Autowired
+	private CommentSessionStore sessionStore;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void storesFilesInlineInsteadOfLargeObject() {
+		assertInstanceOf(DatabaseCommentSessionStore.class, sessionStore);
+		String dataType = jdbcTemplate.queryForObject(
+			"select data_type from information_schema.columns where table_name = 'COMMENT_SESSIONS' and column_name = 'FILES'",
+			String.class);
+		assertEquals("BINARY VARYING", dataType);
+	}
+
+	@Test
+	void savesReplacesAndExpiresSessions() {
+		Map<String, String> files = new LinkedHashMap<>();
+		files.put("src/A.java", "public class A {\n}\n");
+		files.put("src/B.py", "def b():\n    return '한글'\n");
+		sessionStore.save("session-old", new CommentSessionService.SessionData(
+			"token", "owner", "repo", "sha", "main", files, 1_000L, 1L));
+		sessionStore.save("session-new", new CommentSessionService.SessionData(
+			"token", "owner", "repo", "sha", "main", Map.of("src/C.js", "let c;\n"), 5_000L, 1L));
+
+		CommentSessionService.SessionData saved = sessionStore.find("session-old");
+		assertNotNull(saved);
+		assertEquals(files, saved.getUpdatedFiles());
+		assertEquals(1L, saved.getVersion());
+		assertEquals(1_000L, saved.getCreatedAt());
+
+		CommentSessionService.SessionData edited = saved.withChangedFiles(Map.of("src/A.java", "// 수정\npublic class A {\n}\n"));
+		assertTrue(sessionStore.replace("session-old", 1L, edited));
+		// 이미 다른 수정이 반영된 버전으로는 교체되지 않음
+		assertFalse(sessionStore.replace("session-old", 1L, edited));
+		assertFalse(sessionStore.replace("missing", 1L, edited));
+
+		CommentSessionService.SessionData replaced = sessionStore.find("session-old");
+		assertEquals(2L, replaced.getVersion());
+		assertEquals("// 수정\npublic class A {\n}\n", replaced.getFileContent("src/A.java"));
+		assertEquals(files.get("src/B.py"), replaced.getFileContent("src/B.py"));
+
+		assertEquals(1, sessionStore.deleteCreatedBefore(1_000L));
+		assertNull(sessionStore.find("session-old"));
+		assertNotNull(sessionStore.find("session-new"));
+
+		sessionStore.delete("session-new");
+		assertNull(sessionStore.find("session-new"));
+	}
+
+	@Test
+	void storesCompressedFilesWithoutRecompressing() {
+		Map<String, String> files = new LinkedHashMap<>();
+		files.put("src/A.java", "public class A {\n}\n".repeat(50));
+		files.put("src/경로/B.py", "def b():\n    return '한글'\n");
+		CommentSessionService.SessionData original = new CommentSessionService.SessionData(
+			"token", "owner", "repo", "sha", "main", files, 1_000L, 1L);
+		sessionStore.save("session-raw", original);
+
+		CommentSessionService.SessionData saved = sessionStore.find("session-raw");
+
+		// 파일별 압축 바이트가 그대로 보관되고, 컬럼에는 경로와 길이 정보만 더해짐
+		int expectedLength = 5;
+		for (Map.Entry<String, byte[]> file : original.getCompressedFiles().entrySet()) {
+			assertArrayEquals(file.getValue(), saved.getCompressedFiles().get(file.getKey()));
+			expectedLength += 8 + file.getKey().getBytes(StandardCharsets.UTF_8).length + file.getValue().length;
+		}
+		assertEquals(List.copyOf(files.keySet()), List.copyOf(saved.getFilenames()));
+		assertEquals(files, saved.getUpdatedFiles());
+		Integer storedLength = jdbcTemplate.queryForObject(
+			"select octet_length(files) from comment_sessions where id = ?", Integer.class, "session-raw");
+		assertEquals(expectedLength, storedLength);
+
+		sessionStore.delete("session-raw");
+	}
+}
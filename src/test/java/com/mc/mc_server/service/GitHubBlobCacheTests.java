@@ -0,0 +1,104 @@
+package com.mc.mc_server.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GitHubBlobCacheTests {
+
+	private static final String A = "a".repeat(30);
+	private static final String B = "b".repeat(30);
+	private static final String C = "c".repeat(30);
+	private static final String D = "d".repeat(30);
+
+	private Path directory;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("blob-cache-test");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	@Test
+	void evictsLeastRecentlyReadFilesWhenDiskIsFull() throws IOException {
+		// 힙 계층을 끄고 디스크 계층만 사용
+		GitHubBlobCache cache = new GitHubBlobCache(0, true, directory.toString(), 100);
+		cache.put("owner", "repo", "a", A);
+		cache.put("owner", "repo", "b", B);
+		cache.put("owner", "repo", "c", C);
+		setAllModifiedTimes(FileTime.fromMillis(1_000_000L));
+
+		// 읽은 파일은 수정 시각이 갱신되어 삭제 순서가 뒤로 밀림
+		assertEquals(A, cache.get("owner", "repo", "a"));
+		cache.put("owner", "repo", "d", D);
+
+		assertEquals(A, cache.get("owner", "repo", "a"));
+		assertEquals(D, cache.get("owner", "repo", "d"));
+		boolean bEvicted = cache.get("owner", "repo", "b") == null;
+		boolean cEvicted = cache.get("owner", "repo", "c") == null;
+		assertTrue(bEvicted != cEvicted, "b와 c 중 하나만 삭제되어야 함");
+		assertEquals(1L, cache.getStats().get("diskEvictions"));
+		assertEquals(90L, cache.getStats().get("diskBytes"));
+	}
+
+	@Test
+	void trimsExistingDirectoryOnStartup() throws IOException {
+		GitHubBlobCache cache = new GitHubBlobCache(0, true, directory.toString(), 100);
+		cache.put("owner", "repo", "a", A);
+		cache.put("owner", "repo", "b", B);
+		cache.put("owner", "repo", "c", C);
+		Path leftover = Files.write(directory.resolve("blob123.tmp"), new byte[10]);
+
+		GitHubBlobCache restarted = new GitHubBlobCache(0, true, directory.toString(), 50);
+
+		assertFalse(Files.exists(leftover));
+		assertEquals(2L, restarted.getStats().get("diskEvictions"));
+		assertEquals(30L, restarted.getStats().get("diskBytes"));
+		assertEquals(1, listFiles().size());
+	}
+
+	@Test
+	void keepsBlobsTooLargeForDiskOnlyOnHeap() throws IOException {
+		GitHubBlobCache cache = new GitHubBlobCache(1024, true, directory.toString(), 100);
+		String large = "x".repeat(95);
+
+		cache.put("owner", "repo", "large", large);
+
+		assertEquals(large, cache.get("owner", "repo", "large"));
+		assertEquals(0, listFiles().size());
+		assertNull(new GitHubBlobCache(0, true, directory.toString(), 100).get("owner", "repo", "large"));
+	}
+
+	private void setAllModifiedTimes(FileTime time) throws IOException {
+		for (Path file : listFiles()) {
+			Files.setLastModifiedTime(file, time);
+		}
+	}
+
+	private List<Path> listFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.toList();
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package com.mc.mc_server.service;
+
+import com.mc.mc_server.controller.SavedRepositoryController;
+import com.mc.mc_server.dto.SaveRepositoryRequest;
+import com.mc.mc_server.dto.SavedRepositoryPageResponse;
+import com.mc.mc_server.dto.SavedRepositoryResponse;
+import com.mc.mc_server.entity.SavedRepository;
+import com.mc.mc_server.entity.User;
+import com.mc.mc_server.repository.SavedRepositoryRepository;
+import com.mc.mc_server.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SavedRepositoryServiceTests {
+
+	@Autowired
+	private SavedRepositoryService savedRepositoryService;
+
+	@Autowired
+	private SavedRepositoryRepository savedRepositoryRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private SavedRepositoryController savedRepositoryController;
+
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	@AfterEach
+	void cleanUp() {
+		SecurityContextHolder.clearContext();
+		savedRepositoryRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void reportsDuplicateSaveAsAlreadySaved() {
+		User user = userRepository.save(new User("duplicate@example.com", "password"));
+		savedRepositoryService.saveRepository(user, request(1L, "repo"));
+
+		RuntimeException e = assertThrows(RuntimeException.class,
+			() -> savedRepositoryService.saveRepository(user, request(1L, "repo")));
+
+		assertEquals("이미 저장된 레포지토리입니다.", e.getMessage());
+	}
+
+	@Test
+	void propagatesOtherIntegrityViolations() {
+		User user = userRepository.save(new User("not-null@example.com", "password"));
+
+		// repository_name NOT NULL 위반은 중복 저장으로 보고하지 않음
+		assertThrows(DataIntegrityViolationException.class,
+			() -> savedRepositoryService.saveRepository(user, request(2L, null)));
+	}
+
+	@Test
+	void walksAllPagesNewestFirst() {
+		User user = userRepository.save(new User("walk@example.com", "password"));
+		User other = userRepository.save(new User("other@example.com", "password"));
+		for (long i = 1; i <= 5; i++) {
+			saveAt(user, i, BASE_TIME.plusMinutes(i));
+		}
+		saveAt(other, 6L, BASE_TIME.plusMinutes(10));
+
+		List<SavedRepositoryPageResponse> pages = walk(user, 2);
+
+		assertEquals(List.of(2, 2, 1), pages.stream().map(page -> page.getItems().size()).toList());
+		assertEquals(List.of(5L, 4L, 3L, 2L, 1L), repositoryIds(pages));
+	}
+
+	@Test
+	void breaksSavedAtTiesById() {
+		User user = userRepository.save(new User("ties@example.com", "password"));
+		saveAt(user, 1L, BASE_TIME);
+		saveAt(user, 2L, BASE_TIME);
+		saveAt(user, 3L, BASE_TIME);
+		saveAt(user, 4L, BASE_TIME.minusMinutes(1));
+
+		// 같은 저장일이 페이지 경계에 걸려도 건너뛰거나 반복하지 않음 (나중에 저장된 id가 먼저)
+		List<SavedRepositoryPageResponse> pages = walk(user, 1);
+
+		assertEquals(4, pages.size());
+		assertEquals(List.of(3L, 2L, 1L, 4L), repositoryIds(pages));
+	}
+
+	@Test
+	void detectsLastPageWithOneExtraRow() {
+		User user = userRepository.save(new User("last-page@example.com", "password"));
+		for (long i = 1; i <= 3; i++) {
+			saveAt(user, i, BASE_TIME.plusMinutes(i));
+		}
+
+		// 남은 개수가 페이지 크기와 같으면 다음 페이지가 없음
+		SavedRepositoryPageResponse exact = savedRepositoryService.getSavedRepositories(user, null, 3);
+		assertEquals(3, exact.getItems().size());
+		assertNull(exact.getNextCursor());
+		assertFalse(exact.isHasNext());
+
+		SavedRepositoryPageResponse first = savedRepositoryService.getSavedRepositories(user, null, 2);
+		assertEquals(2, first.getItems().size());
+		assertNotNull(first.getNextCursor());
+		assertTrue(first.isHasNext());
+
+		SavedRepositoryPageResponse second = savedRepositoryService.getSavedRepositories(user, first.getNextCursor(), 2);
+		assertEquals(1, second.getItems().size());
+		assertNull(second.getNextCursor());
+		assertFalse(second.isHasNext());
+	}
+
+	@Test
+	void rejectsMalformedCursors() {
+		User user = userRepository.save(new User("cursor@example.com", "password"));
+		saveAt(user, 1L, BASE_TIME);
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(user, null, List.of()));
+
+		List<String> cursors = List.of(
+			"not base64!",
+			encode("2026-01-01T12:00"),
+			encode("2026-01-01T12:00|abc"),
+			encode("yesterday|1"));
+		for (String cursor : cursors) {
+			RuntimeException e = assertThrows(RuntimeException.class,
+				() -> savedRepositoryService.getSavedRepositories(user, cursor, 20));
+			assertEquals("잘못된 커서입니다.", e.getMessage());
+			assertEquals(HttpStatus.BAD_REQUEST, savedRepositoryController.getSavedRepositories(cursor, 20).getStatusCode());
+		}
+	}
+
+	private void saveAt(User user, Long repositoryId, LocalDateTime savedAt) {
+		savedRepositoryService.saveRepository(user, request(repositoryId, "repo" + repositoryId));
+		// 저장 시 @PrePersist가 현재 시각을 넣으므로 저장 후에 바꿈
+		SavedRepository saved = savedRepositoryRepository.findByUserAndRepositoryId(user, repositoryId).orElseThrow();
+		saved.setCreatedAt(savedAt);
+		savedRepositoryRepository.saveAndFlush(saved);
+	}
+
+	private List<SavedRepositoryPageResponse> walk(User user, int size) {
+		List<SavedRepositoryPageResponse> pages = new ArrayList<>();
+		String cursor = null;
+		do {
+			SavedRepositoryPageResponse page = savedRepositoryService.getSavedRepositories(user, cursor, size);
+			pages.add(page);
+			cursor = page.getNextCursor();
+		} while (cursor != null && pages.size() <= 10);
+		return pages;
+	}
+
+	private static List<Long> repositoryIds(List<SavedRepositoryPageResponse> pages) {
+		List<Long> ids = new ArrayList<>();
+		for (SavedRepositoryPageResponse page : pages) {
+			for (SavedRepositoryResponse item : page.getItems()) {
+				ids.add(item.getRepositoryId());
+			}
+		}
+		return ids;
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static SaveRepositoryRequest request(Long repositoryId, String repositoryName) {
+		SaveRepositoryRequest request = new SaveRepositoryRequest();
+		request.setRepositoryId(repositoryId);
+		request.setRepositoryName(repositoryName);
+		request.setRepositoryFullName("owner/repo" + repositoryId);
+		request.setRepositoryUrl("https://github.com/owner/repo" + repositoryId);
+		return request;
+	}
+}
@@ -0,0 +1,128 @@
+package com.mc.mc_server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeywordMatcherTests {
+
+	@Test
+	void findsOverlappingKeywords() {
+		List<String> keywords = List.of("he", "she", "his", "hers");
+		KeywordMatcher matcher = new KeywordMatcher(keywords);
+
+		KeywordMatcher.Matches matches = matcher.match("ushers");
+
+		assertEquals(List.of("he", "she", "hers"), contained(keywords, matches));
+		assertEquals(List.of(), prefixed(keywords, matches));
+	}
+
+	@Test
+	void reportsSuffixKeywordsReachedThroughFailureLinks() {
+		// "abcd"를 따라가다 'x'에서 끊겨도 "abc" 상태의 실패 링크로 "bc", "c"가 보고되어야 함
+		List<String> keywords = List.of("abcd", "bc", "c", "private ", "private final");
+		KeywordMatcher matcher = new KeywordMatcher(keywords);
+
+		assertEquals(List.of("bc", "c"), contained(keywords, matcher.match("abcx")));
+		assertEquals(List.of("abcd", "bc", "c"), contained(keywords, matcher.match("abcd")));
+		assertEquals(List.of("private ", "private final"), contained(keywords, matcher.match("private final int a;")));
+	}
+
+	@Test
+	void reportsPrefixOnlyWithoutFailureTransition() {
+		List<String> keywords = List.of("aa", "ab", "b");
+		KeywordMatcher matcher = new KeywordMatcher(keywords);
+
+		// "aab": "ab"는 포함되지만 실패 링크를 거쳐 도달했으므로 시작 키워드가 아님
+		KeywordMatcher.Matches matches = matcher.match("aab");
+		assertEquals(List.of("aa", "ab", "b"), contained(keywords, matches));
+		assertEquals(List.of("aa"), prefixed(keywords, matches));
+	}
+
+	@Test
+	void matchesStartsWithFromRangeBegin() {
+		List<String> keywords = List.of("import ", "//");
+		KeywordMatcher matcher = new KeywordMatcher(keywords);
+		String line = "    import java.util.List;  ";
+
+		assertEquals(List.of(), prefixed(keywords, matcher.match(line)));
+		assertEquals(List.of("import "), prefixed(keywords, matcher.match(line, 4, line.length() - 2)));
+		// 구간 밖의 문자는 보지 않음
+		assertEquals(List.of(), contained(keywords, matcher.match(line, 0, 4)));
+	}
+
+	@Test
+	void agreesWithStringSearchOnNonAsciiInput() {
+		List<String> keywords = List.of("class ", "ab", "=>", "useState");
+		KeywordMatcher matcher = new KeywordMatcher(keywords);
+		String[] samples = {
+			"한글 class 이름 {", "a한b", "한ab", "ab한", "é=>ü", "const 상태 = useState(초기값);", "클래스", " ab", "a\u0000b"
+		};
+
+		for (String sample : samples) {
+			KeywordMatcher.Matches matches = matcher.match(sample);
+			for (int k = 0; k < keywords.size(); k++) {
+				long bit = 1L << k;
+				assertEquals(sample.contains(keywords.get(k)), matches.contains(bit), sample + " / " + keywords.get(k));
+				assertEquals(sample.startsWith(keywords.get(k)), matches.startsWith(bit), sample + " / " + keywords.get(k));
+			}
+		}
+	}
+
+	@Test
+	void usesAllSixtyFourBits() {
+		List<String> keywords = new ArrayList<>();
+		for (int i = 0; i < Long.SIZE; i++) {
+			keywords.add("k" + i + ";");
+		}
+		KeywordMatcher matcher = new KeywordMatcher(keywords);
+
+		KeywordMatcher.Matches matches = matcher.match("k63;k0;");
+
+		assertEquals(List.of("k0;", "k63;"), contained(keywords, matches));
+		assertEquals(List.of("k63;"), prefixed(keywords, matches));
+	}
+
+	@Test
+	void rejectsUnsupportedKeywords() {
+		assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(List.of("")));
+		assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(List.of("클래스")));
+		assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(Collections.nCopies(Long.SIZE + 1, "a")));
+	}
+
+	@Test
+	void returnsNoMatchesForEmptyRange() {
+		KeywordMatcher.Matches matches = new KeywordMatcher(List.of("a")).match("");
+
+		assertFalse(matches.contains(1L));
+		assertFalse(matches.startsWith(1L));
+		assertTrue(new KeywordMatcher(List.of("a")).match("a").startsWith(1L));
+	}
+
+	private static List<String> contained(List<String> keywords, KeywordMatcher.Matches matches) {
+		List<String> result = new ArrayList<>();
+		for (int k = 0; k < keywords.size(); k++) {
+			if (matches.contains(1L << k)) {
+				result.add(keywords.get(k));
+			}
+		}
+		return result;
+	}
+
+	private static List<String> prefixed(List<String> keywords, KeywordMatcher.Matches matches) {
+		List<String> result = new ArrayList<>();
+		for (int k = 0; k < keywords.size(); k++) {
+			if (matches.startsWith(1L << k)) {
+				result.add(keywords.get(k));
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,86 @@
+package com.mc.mc_server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LineScannerTests {
+
+	@Test
+	void matchesStringSplit() {
+		String[] samples = {
+			"", "a", "a\n", "a\n\n\n", "\n", "\n\n", "\na", "a\n\nb", "a\r\nb\r\n", " \n \n", "+x\n@@ -1 +1 @@\n+y"
+		};
+		for (String sample : samples) {
+			assertEquals(Arrays.asList(sample.split("\n")), scan(sample), sample);
+		}
+	}
+
+	@Test
+	void reportsOneBasedLineNumbers() {
+		LineScanner lines = new LineScanner("a\n\nc");
+		List<Integer> numbers = new ArrayList<>();
+		while (lines.next()) {
+			numbers.add(lines.lineNumber());
+		}
+		assertEquals(List.of(1, 2, 3), numbers);
+	}
+
+	@Test
+	void appendRemainingMatchesFullLoopFromEveryLine() {
+		String[] samples = {
+			"", "a", "a\n", "a\n\n\n", "\n", "\na", "a\n\nb", "a\nb\nc", "a\r\nb\r\n", "x\n\ny\n\n"
+		};
+		for (String sample : samples) {
+			String expected = appendAll(new LineScanner(sample), new StringBuilder()).toString();
+			for (int consumed = 0; consumed <= sample.split("\n").length; consumed++) {
+				LineScanner lines = new LineScanner(sample);
+				StringBuilder actual = new StringBuilder();
+				for (int i = 0; i < consumed && lines.next(); i++) {
+					lines.appendTo(actual).append('\n');
+				}
+				lines.appendRemainingTo(actual);
+
+				assertEquals(expected, actual.toString(), sample + " / " + consumed);
+				assertFalse(lines.next(), sample + " / " + consumed);
+			}
+		}
+	}
+
+	@Test
+	void comparesCurrentLineContent() {
+		LineScanner lines = new LineScanner("ab\n\nabc");
+		lines.next();
+		assertTrue(lines.contentEquals("ab"));
+		assertFalse(lines.contentEquals("a"));
+		assertFalse(lines.contentEquals("ab\n"));
+		lines.next();
+		assertTrue(lines.contentEquals(""));
+		lines.next();
+		assertTrue(lines.contentEquals("abc"));
+		assertFalse(lines.contentEquals("abcd"));
+	}
+
+	private static StringBuilder appendAll(LineScanner lines, StringBuilder builder) {
+		while (lines.next()) {
+			lines.appendTo(builder).append('\n');
+		}
+		return builder;
+	}
+
+	private static List<String> scan(String text) {
+		List<String> result = new ArrayList<>();
+		LineScanner lines = new LineScanner(text);
+		while (lines.next()) {
+			result.add(lines.line());
+		}
+		return result;
+	}
+
+}
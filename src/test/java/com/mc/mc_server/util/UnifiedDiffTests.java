@@ -0,0 +1,207 @@
+package com.mc.mc_server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UnifiedDiffTests {
+
+	private static final List<String> ORIGINAL = List.of(
+		"class A {",
+		"    int a;",
+		"",
+		"    int b;",
+		"}",
+		"",
+		"class B {",
+		"    int c;",
+		"}"
+	);
+
+	@Test
+	void parsesHeaderAndLines() {
+		List<UnifiedDiff.Hunk> hunks = UnifiedDiff.parse(String.join("\n",
+			"diff --git a/A.java b/A.java",
+			"index 1111111..2222222 100644",
+			"--- a/A.java",
+			"+++ b/A.java",
+			"@@ -1,2 +1,3 @@ class A {",
+			" class A {",
+			"+    int x;",
+			"     int a;",
+			""));
+
+		assertEquals(1, hunks.size());
+		UnifiedDiff.Hunk hunk = hunks.get(0);
+		assertEquals(1, hunk.getOldStart());
+		assertEquals(2, hunk.getOldCount());
+		assertEquals(1, hunk.getNewStart());
+		assertEquals(3, hunk.getNewCount());
+		assertEquals(List.of(" class A {", "+    int x;", "     int a;"), hunk.getLines());
+	}
+
+	@Test
+	void treatsEmptyLineInsideHunkAsBlankContext() {
+		// 세 번째 줄의 문맥 ' '가 지워진 diff
+		String diff = String.join("\n",
+			"@@ -2,3 +2,4 @@",
+			"     int a;",
+			"",
+			"+    int added;",
+			"     int b;");
+
+		List<UnifiedDiff.Hunk> hunks = UnifiedDiff.parse(diff);
+
+		assertEquals(List.of("     int a;", " ", "+    int added;", "     int b;"), hunks.get(0).getLines());
+		assertEquals(List.of(
+			"class A {", "    int a;", "", "    int added;", "    int b;", "}", "", "class B {", "    int c;", "}"
+		), UnifiedDiff.apply(ORIGINAL, hunks));
+	}
+
+	@Test
+	void ignoresNoNewlineMarker() {
+		String diff = String.join("\n",
+			"@@ -8,2 +8,2 @@",
+			"     int c;",
+			"-}",
+			"\\ No newline at end of file",
+			"+} // B",
+			"\\ No newline at end of file");
+
+		List<UnifiedDiff.Hunk> hunks = UnifiedDiff.parse(diff);
+
+		assertEquals(List.of("     int c;", "-}", "+} // B"), hunks.get(0).getLines());
+		List<String> result = UnifiedDiff.apply(ORIGINAL, hunks);
+		assertEquals("} // B", result.get(result.size() - 1));
+	}
+
+	@Test
+	void appliesMultipleHunks() {
+		String diff = String.join("\n",
+			"@@ -1,2 +1,2 @@",
+			"-class A {",
+			"+class A2 {",
+			"     int a;",
+			"@@ -7,3 +7,4 @@",
+			" class B {",
+			"     int c;",
+			"+    int d;",
+			" }",
+			"");
+
+		assertEquals(List.of(
+			"class A2 {", "    int a;", "", "    int b;", "}", "", "class B {", "    int c;", "    int d;", "}"
+		), UnifiedDiff.apply(ORIGINAL, UnifiedDiff.parse(diff)));
+	}
+
+	@Test
+	void insertsAfterLineWhenHunkHasNoOldLines() {
+		List<UnifiedDiff.Hunk> hunks = UnifiedDiff.parse("@@ -5,0 +6,1 @@\n+// end of A\n");
+
+		List<String> result = UnifiedDiff.apply(ORIGINAL, hunks);
+
+		assertEquals("}", result.get(4));
+		assertEquals("// end of A", result.get(5));
+		assertEquals(ORIGINAL.size() + 1, result.size());
+	}
+
+	@Test
+	void rejectsContextMismatch() {
+		String diff = String.join("\n",
+			"@@ -2,2 +2,3 @@",
+			"     int z;",
+			"+    int added;",
+			" ");
+
+		assertThrows(IllegalArgumentException.class, () -> UnifiedDiff.apply(ORIGINAL, UnifiedDiff.parse(diff)));
+	}
+
+	@Test
+	void rejectsOverlappingHunks() {
+		String diff = String.join("\n",
+			"@@ -2,1 +2,1 @@",
+			"-    int a;",
+			"+    int a2;",
+			"@@ -1,1 +1,1 @@",
+			"-class A {",
+			"+class A2 {");
+
+		assertThrows(IllegalArgumentException.class, () -> UnifiedDiff.apply(ORIGINAL, UnifiedDiff.parse(diff)));
+	}
+
+	@Test
+	void rejectsHunkShorterThanHeader() {
+		String diff = String.join("\n",
+			"@@ -1,3 +1,3 @@",
+			" class A {",
+			"     int a;");
+
+		assertThrows(IllegalArgumentException.class, () -> UnifiedDiff.parse(diff));
+	}
+
+	@Test
+	void rejectsHunkLongerThanHeader() {
+		String diff = String.join("\n",
+			"@@ -1,1 +1,2 @@",
+			" class A {",
+			"+    int x;",
+			"+    int y;");
+
+		assertThrows(IllegalArgumentException.class, () -> UnifiedDiff.parse(diff));
+	}
+
+	@Test
+	void rejectsHunkCutByNextHeader() {
+		String diff = String.join("\n",
+			"@@ -1,2 +1,2 @@",
+			" class A {",
+			"@@ -7,1 +7,1 @@",
+			" class B {");
+
+		assertThrows(IllegalArgumentException.class, () -> UnifiedDiff.parse(diff));
+	}
+
+	@Test
+	void numbersAddedLinesAcrossHunks() {
+		String diff = String.join("\n",
+			"@@ -1,3 +1,3 @@",
+			"-class A {",
+			"+class A2 {",
+			"     int a;",
+			"",
+			"@@ -7,3 +7,5 @@",
+			" class B {",
+			"+    int d;",
+			"     int c;",
+			"-}",
+			"+    int e;",
+			"+} // B",
+			"\\ No newline at end of file");
+
+		List<UnifiedDiff.AddedLine> added = UnifiedDiff.addedLines(UnifiedDiff.parse(diff));
+
+		assertEquals(List.of(1, 8, 10, 11), added.stream().map(UnifiedDiff.AddedLine::getLineNumber).toList());
+		assertEquals(List.of("class A2 {", "    int d;", "    int e;", "} // B"),
+			added.stream().map(UnifiedDiff.AddedLine::getText).toList());
+
+		// 계산한 줄 번호가 실제로 적용한 결과의 줄과 일치
+		List<String> result = UnifiedDiff.apply(ORIGINAL, UnifiedDiff.parse(diff));
+		for (UnifiedDiff.AddedLine line : added) {
+			assertEquals(line.getText(), result.get(line.getLineNumber() - 1));
+		}
+	}
+
+	@Test
+	void reportsNoAddedLinesForDeletionOnlyDiff() {
+		String diff = String.join("\n",
+			"@@ -2,3 +2,2 @@",
+			"     int a;",
+			"-",
+			"     int b;");
+
+		assertEquals(List.of(), UnifiedDiff.addedLines(UnifiedDiff.parse(diff)));
+	}
+}